@@ -0,0 +1,20 @@
+package com.michelmaia.quickbite.application.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPageResponseDTO<T> {
+    private List<T> data;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorPageResponseDTO(List<T> data, int size, String nextCursor) {
+        this.data = data;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -1,22 +1,38 @@
 package com.michelmaia.quickbite.application.dto;
 
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Offset page. totalElements and totalPages are null when the total was not requested.
+ */
 @Getter
 public class PageResponseDTO<T> {
     private List<T> data;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
 
-    public PageResponseDTO(List<T> data, int page, int size, long totalElements) {
+    public PageResponseDTO(List<T> data, int page, int size, Long totalElements, boolean hasNext) {
         this.data = data;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
-        this.totalPages = (int) Math.ceil((double) totalElements / size);
+        this.totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> PageResponseDTO<T> of(PageResult<T> result, int page, int size) {
+        return new PageResponseDTO<>(result.content(), page, size, result.totalElements(), result.hasNext());
+    }
+
+    public <R> PageResponseDTO<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = data.stream().<R>map(mapper).toList();
+        return new PageResponseDTO<>(mapped, page, size, totalElements, hasNext);
     }
 }
@@ -0,0 +1,18 @@
+package com.michelmaia.quickbite.application.service;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Output Port: Runs independent reads at the same time, each in its own read-only unit of work
+ * Latency is the slower read instead of their sum; the reads may see slightly different snapshots
+ * Defined by application, implemented by infrastructure
+ */
+public interface ConcurrentReads {
+
+    /**
+     * Runs both reads and combines their results. A failure or timeout of either read cancels the other
+     * and is rethrown to the caller.
+     */
+    <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<? super A, ? super B, ? extends R> combine);
+}
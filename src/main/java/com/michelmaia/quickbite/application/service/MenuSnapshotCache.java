@@ -0,0 +1,18 @@
+package com.michelmaia.quickbite.application.service;
+
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuSnapshot;
+
+/**
+ * Output Port: Per-restaurant menu snapshots
+ * Defined by application, implemented by infrastructure
+ */
+public interface MenuSnapshotCache {
+
+    // Never null: a restaurant without items (or unknown) yields an empty snapshot
+    MenuSnapshot get(Long restaurantId);
+
+    // Current menu version, 0 for unknown restaurants
+    long version(Long restaurantId);
+
+    void evict(Long restaurantId);
+}
@@ -1,5 +1,7 @@
 package com.michelmaia.quickbite.application.service;
 
+import java.util.function.Consumer;
+
 /**
  * Output Port: Password encoding
  * Defined by application, implemented by infrastructure
@@ -7,4 +9,10 @@ package com.michelmaia.quickbite.application.service;
 public interface PasswordEncoder {
     String encode(String rawPassword);
     boolean matches(String rawPassword, String encodedPassword);
+
+    // True when the hash was made with weaker parameters than new hashes get
+    boolean needsRehash(String encodedPassword);
+
+    // Best effort: hashes off the caller's thread when there is spare capacity, otherwise not at all
+    void encodeInBackground(String rawPassword, Consumer<String> onEncoded);
 }
@@ -26,4 +26,19 @@ public interface TokenGenerator {
      * Get token expiration time in milliseconds
      */
     long getExpirationTime();
+    
+    /**
+     * Generate an opaque, unguessable refresh token
+     */
+    String generateRefreshToken();
+    
+    /**
+     * Digest under which a refresh token is stored and looked up; the token itself is never stored
+     */
+    String hashRefreshToken(String refreshToken);
+    
+    /**
+     * Get refresh token expiration time in milliseconds
+     */
+    long getRefreshExpirationTime();
 }
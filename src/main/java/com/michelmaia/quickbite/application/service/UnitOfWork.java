@@ -0,0 +1,17 @@
+package com.michelmaia.quickbite.application.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Output Port: Transaction boundary for use cases
+ * Work executed in one unit runs on a single connection and commits or rolls back as a whole
+ * Defined by application, implemented by infrastructure
+ */
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+
+    void run(Runnable work);
+
+    <T> T readOnly(Supplier<T> work);
+}
@@ -0,0 +1,48 @@
+package com.michelmaia.quickbite.application.usecase.auth;
+
+import com.michelmaia.quickbite.application.service.TokenGenerator;
+import com.michelmaia.quickbite.domain.auth.entity.RefreshToken;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
+import com.michelmaia.quickbite.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Issues an access token together with the next refresh token of a family; shared by login and refresh.
+ * Run inside a unit of work: the refresh token is stored before it is handed out.
+ */
+final class AuthTokens {
+
+    private final TokenGenerator tokenGenerator;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    AuthTokens(TokenGenerator tokenGenerator, RefreshTokenRepository refreshTokenRepository) {
+        this.tokenGenerator = tokenGenerator;
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    LoginUseCase.LoginResult issue(User user, UUID familyId) {
+        long currentTime = System.currentTimeMillis();
+        Date issuedAt = new Date(currentTime);
+        Date expiration = new Date(currentTime + tokenGenerator.getExpirationTime());
+
+        String token = tokenGenerator.generateToken(
+            user.getUsername(),
+            user.getRoles(),
+            issuedAt,
+            expiration
+        );
+
+        String refreshToken = tokenGenerator.generateRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(
+            user.getId(),
+            tokenGenerator.hashRefreshToken(refreshToken),
+            familyId,
+            LocalDateTime.now().plusNanos(tokenGenerator.getRefreshExpirationTime() * 1_000_000)
+        ));
+
+        return new LoginUseCase.LoginResult(token, user.getUsername(), refreshToken);
+    }
+}
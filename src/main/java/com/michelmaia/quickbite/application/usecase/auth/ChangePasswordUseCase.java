@@ -1,7 +1,9 @@
 package com.michelmaia.quickbite.application.usecase.auth;
 
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.auth.exception.InvalidCredentialsException;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
@@ -14,12 +16,18 @@ public class ChangePasswordUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UnitOfWork unitOfWork;
     
     public ChangePasswordUseCase(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            RefreshTokenRepository refreshTokenRepository,
+            UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.unitOfWork = unitOfWork;
     }
     
     public void execute(ChangePasswordCommand command) {
@@ -52,8 +60,12 @@ public class ChangePasswordUseCase {
             user.getUpdatedAt()
         );
         
-        // Save updated user
-        userRepository.save(userWithEncodedPassword);
+        // Save updated user (hashing above stays outside the transaction); sessions started with the old
+        // password cannot be refreshed anymore
+        unitOfWork.run(() -> {
+            userRepository.save(userWithEncodedPassword);
+            refreshTokenRepository.revokeAllByUserId(user.getId());
+        });
     }
     
     // Command record
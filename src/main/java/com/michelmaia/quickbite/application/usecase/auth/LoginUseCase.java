@@ -2,18 +2,20 @@ package com.michelmaia.quickbite.application.usecase.auth;
 
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
 import com.michelmaia.quickbite.application.service.TokenGenerator;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.auth.exception.AccountDisabledException;
 import com.michelmaia.quickbite.domain.auth.exception.InvalidCredentialsException;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Date;
+import java.util.UUID;
 
 /**
  * Use Case: User Login
- * Authenticates user and generates JWT token
+ * Authenticates user and generates JWT token plus a refresh token
  */
 public class LoginUseCase {
     
@@ -21,15 +23,19 @@ public class LoginUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final TokenGenerator tokenGenerator;
+    private final UnitOfWork unitOfWork;
+    private final AuthTokens authTokens;
     
     public LoginUseCase(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            TokenGenerator tokenGenerator) {
+            TokenGenerator tokenGenerator,
+            RefreshTokenRepository refreshTokenRepository,
+            UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.tokenGenerator = tokenGenerator;
+        this.unitOfWork = unitOfWork;
+        this.authTokens = new AuthTokens(tokenGenerator, refreshTokenRepository);
     }
     
     public LoginResult execute(LoginCommand command) {
@@ -50,23 +56,28 @@ public class LoginUseCase {
             throw new AccountDisabledException();
         }
         
-        // Generate token
-        long currentTime = System.currentTimeMillis();
-        Date issuedAt = new Date(currentTime);
-        Date expiration = new Date(currentTime + tokenGenerator.getExpirationTime());
-        
-        String token = tokenGenerator.generateToken(
-            user.getUsername(),
-            user.getRoles(),
-            issuedAt,
-            expiration
-        );
+        // Upgrade a hash made with an outdated cost while the raw password is at hand; the login does not wait
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehashInBackground(user, command.password());
+        }
         
-        return new LoginResult(token, user.getUsername());
+        // Generate the access token and start a new refresh token family
+        return unitOfWork.execute(() -> authTokens.issue(user, UUID.randomUUID()));
+    }
+    
+    private void rehashInBackground(User user, String rawPassword) {
+        passwordEncoder.encodeInBackground(rawPassword, encodedPassword -> {
+            // A password changed in the meantime is left alone
+            boolean replaced = unitOfWork.execute(() ->
+                    userRepository.replacePassword(user.getId(), user.getPassword(), encodedPassword));
+            if (replaced) {
+                LOGGER.info("Rehashed password of user {}", user.getUsername());
+            }
+        });
     }
     
     // Command and Result records
     public record LoginCommand(String username, String password) {}
     
-    public record LoginResult(String token, String username) {}
+    public record LoginResult(String token, String username, String refreshToken) {}
 }
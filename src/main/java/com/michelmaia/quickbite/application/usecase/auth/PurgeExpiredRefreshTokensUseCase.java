@@ -0,0 +1,41 @@
+package com.michelmaia.quickbite.application.usecase.auth;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
+
+import java.time.Duration;
+
+/**
+ * Use Case: Delete refresh tokens that can no longer be redeemed
+ * Expired tokens are kept for retention past expires_at, so replaying a used one still revokes its family
+ * until then; afterwards a replay is only rejected as unknown.
+ */
+public class PurgeExpiredRefreshTokensUseCase {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UnitOfWork unitOfWork;
+    private final Duration retention;
+
+    public PurgeExpiredRefreshTokensUseCase(RefreshTokenRepository refreshTokenRepository, UnitOfWork unitOfWork,
+                                            Duration retention) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.unitOfWork = unitOfWork;
+        this.retention = retention;
+    }
+
+    /**
+     * @return the number of tokens deleted
+     */
+    public int execute() {
+        int total = 0;
+        int deleted;
+        do {
+            // One unit of work per batch, so refreshes never wait on the whole purge
+            deleted = unitOfWork.execute(() -> refreshTokenRepository.deleteExpired(retention, BATCH_SIZE));
+            total += deleted;
+        } while (deleted == BATCH_SIZE);
+        return total;
+    }
+}
@@ -0,0 +1,81 @@
+package com.michelmaia.quickbite.application.usecase.auth;
+
+import com.michelmaia.quickbite.application.service.TokenGenerator;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.auth.entity.RefreshToken;
+import com.michelmaia.quickbite.domain.auth.exception.AccountDisabledException;
+import com.michelmaia.quickbite.domain.auth.exception.InvalidRefreshTokenException;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
+import com.michelmaia.quickbite.domain.user.entity.User;
+import com.michelmaia.quickbite.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Refresh Token
+ * Exchanges a refresh token for a new access token and the next refresh token, without a password check.
+ * Each refresh token works once; presenting a used one again revokes every token of its family.
+ */
+public class RefreshTokenUseCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenUseCase.class);
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenGenerator tokenGenerator;
+    private final UnitOfWork unitOfWork;
+    private final AuthTokens authTokens;
+
+    public RefreshTokenUseCase(
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenGenerator tokenGenerator,
+            UnitOfWork unitOfWork) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenGenerator = tokenGenerator;
+        this.unitOfWork = unitOfWork;
+        this.authTokens = new AuthTokens(tokenGenerator, refreshTokenRepository);
+    }
+
+    public LoginUseCase.LoginResult execute(RefreshCommand command) {
+        String tokenHash = tokenGenerator.hashRefreshToken(command.refreshToken());
+
+        // The revocation of a replayed family has to commit, so the rejection is thrown outside the unit of work
+        return unitOfWork.execute(() -> rotate(tokenHash))
+            .orElseThrow(InvalidRefreshTokenException::new);
+    }
+
+    private Optional<LoginUseCase.LoginResult> rotate(String tokenHash) {
+        Optional<RefreshToken> consumed = refreshTokenRepository.consume(tokenHash);
+        if (consumed.isEmpty()) {
+            // Business rule: A used token presented again leaked; neither holder may keep refreshing
+            refreshTokenRepository.findFamilyIdIfUsed(tokenHash).ifPresent(familyId -> {
+                int revoked = refreshTokenRepository.revokeFamily(familyId);
+                LOGGER.warn("Refresh token reused; revoked {} tokens of family {}", revoked, familyId);
+            });
+            return Optional.empty();
+        }
+
+        RefreshToken refreshToken = consumed.get();
+        User user = userRepository.findById(refreshToken.userId())
+            .orElseThrow(InvalidRefreshTokenException::new);
+
+        // Check if user is enabled
+        if (!user.isEnabled()) {
+            throw new AccountDisabledException();
+        }
+
+        return Optional.of(authTokens.issue(user, refreshToken.familyId()));
+    }
+
+    public record RefreshCommand(String refreshToken) {
+        public RefreshCommand {
+            if (refreshToken == null || refreshToken.isBlank()) {
+                throw new IllegalArgumentException("Refresh token is required");
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.michelmaia.quickbite.application.usecase.menuitem;
 
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
 import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
 import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
@@ -12,14 +14,24 @@ public class CreateMenuItemUseCase {
 
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final UnitOfWork unitOfWork;
 
     public CreateMenuItemUseCase(MenuItemRepository menuItemRepository,
-                                 RestaurantRepository restaurantRepository) {
+                                 RestaurantRepository restaurantRepository,
+                                 MenuSnapshotCache menuSnapshotCache,
+                                 UnitOfWork unitOfWork) {
         this.menuItemRepository = menuItemRepository;
         this.restaurantRepository = restaurantRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.unitOfWork = unitOfWork;
     }
 
     public MenuItem execute(CreateMenuItemCommand command) {
+        return unitOfWork.execute(() -> create(command));
+    }
+
+    private MenuItem create(CreateMenuItemCommand command) {
         // Business rule: Restaurant must exist
         restaurantRepository.findById(command.restaurantId())
                 .orElseThrow(() -> new RestaurantNotFoundException(command.restaurantId()));
@@ -38,7 +50,13 @@ public class CreateMenuItemUseCase {
             menuItem.markAsUnavailable();
         }
 
-        return menuItemRepository.save(menuItem);
+        MenuItem saved = menuItemRepository.save(menuItem);
+
+        // Menu changed: new version for cached snapshots
+        menuItemRepository.incrementMenuVersion(saved.getRestaurantId());
+        menuSnapshotCache.evict(saved.getRestaurantId());
+
+        return saved;
     }
 
     public record CreateMenuItemCommand(
@@ -1,6 +1,8 @@
 
 package com.michelmaia.quickbite.application.usecase.menuitem;
 
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
 import com.michelmaia.quickbite.domain.menuitem.exception.MenuItemNotFoundException;
 import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
@@ -11,17 +13,31 @@ import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
 public class DeleteMenuItemUseCase {
 
     private final MenuItemRepository menuItemRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final UnitOfWork unitOfWork;
 
-    public DeleteMenuItemUseCase(MenuItemRepository menuItemRepository) {
+    public DeleteMenuItemUseCase(MenuItemRepository menuItemRepository,
+                                 MenuSnapshotCache menuSnapshotCache,
+                                 UnitOfWork unitOfWork) {
         this.menuItemRepository = menuItemRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.unitOfWork = unitOfWork;
     }
 
     public void execute(Long menuItemId) {
+        unitOfWork.run(() -> delete(menuItemId));
+    }
+
+    private void delete(Long menuItemId) {
         // Find menu item
         MenuItem menuItem = menuItemRepository.findById(menuItemId)
                 .orElseThrow(() -> new MenuItemNotFoundException(menuItemId));
 
         // Delete menu item
         menuItemRepository.delete(menuItem);
+
+        // Menu changed: new version for cached snapshots
+        menuItemRepository.incrementMenuVersion(menuItem.getRestaurantId());
+        menuSnapshotCache.evict(menuItem.getRestaurantId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.michelmaia.quickbite.application.usecase.menuitem;
+
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.menuitem.exception.InvalidMenuItemDataException;
+import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case: Import many menu items of one restaurant at once
+ * Rows failing validation are reported and skipped; the valid ones are inserted together.
+ */
+public class ImportMenuItemsUseCase {
+
+    public static final int MAX_ROWS = 10_000;
+
+    private final MenuItemRepository menuItemRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final UnitOfWork unitOfWork;
+
+    public ImportMenuItemsUseCase(MenuItemRepository menuItemRepository,
+                                  RestaurantRepository restaurantRepository,
+                                  MenuSnapshotCache menuSnapshotCache,
+                                  UnitOfWork unitOfWork) {
+        this.menuItemRepository = menuItemRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.unitOfWork = unitOfWork;
+    }
+
+    public ImportResult execute(ImportMenuItemsCommand command) {
+        // Validation needs no connection, so it runs before the unit of work starts
+        List<RowOutcome> outcomes = new ArrayList<>(command.rows().size());
+        List<MenuItem> valid = new ArrayList<>();
+        List<Integer> validRows = new ArrayList<>();
+        for (int i = 0; i < command.rows().size(); i++) {
+            int row = i + 1;
+            try {
+                valid.add(toMenuItem(command.restaurantId(), command.rows().get(i)));
+                validRows.add(row);
+                outcomes.add(null);
+            } catch (InvalidMenuItemDataException e) {
+                outcomes.add(RowOutcome.rejected(row, e.getMessage()));
+            }
+        }
+
+        List<MenuItem> inserted = unitOfWork.execute(() -> insert(command.restaurantId(), valid));
+
+        for (int i = 0; i < inserted.size(); i++) {
+            int row = validRows.get(i);
+            outcomes.set(row - 1, RowOutcome.imported(row, inserted.get(i).getId()));
+        }
+        return new ImportResult(outcomes);
+    }
+
+    private List<MenuItem> insert(Long restaurantId, List<MenuItem> menuItems) {
+        // Business rule: Restaurant must exist, checked once for the whole import
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException(restaurantId);
+        }
+        if (menuItems.isEmpty()) {
+            return List.of();
+        }
+
+        List<MenuItem> inserted = menuItemRepository.insertAll(menuItems);
+
+        // Menu changed: one new version for the whole import
+        menuItemRepository.incrementMenuVersion(restaurantId);
+        menuSnapshotCache.evict(restaurantId);
+
+        return inserted;
+    }
+
+    private static MenuItem toMenuItem(Long restaurantId, MenuItemRow row) {
+        if (row == null) {
+            throw new InvalidMenuItemDataException("Row is empty");
+        }
+        MenuItem menuItem = MenuItem.createNew(
+                restaurantId,
+                row.name(),
+                row.description(),
+                row.price(),
+                row.imageUrl()
+        );
+        if (row.isAvailable() != null && !row.isAvailable()) {
+            menuItem.markAsUnavailable();
+        }
+        return menuItem;
+    }
+
+    public record ImportMenuItemsCommand(
+            Long restaurantId,
+            List<MenuItemRow> rows
+    ) {
+        public ImportMenuItemsCommand {
+            if (restaurantId == null) {
+                throw new IllegalArgumentException("Restaurant ID is required");
+            }
+            if (rows == null || rows.isEmpty()) {
+                throw new IllegalArgumentException("At least one menu item is required");
+            }
+            if (rows.size() > MAX_ROWS) {
+                throw new IllegalArgumentException("At most " + MAX_ROWS + " menu items can be imported at once");
+            }
+        }
+    }
+
+    public record MenuItemRow(
+            String name,
+            String description,
+            Double price,
+            String imageUrl,
+            Boolean isAvailable
+    ) {}
+
+    /**
+     * Outcome of one row, numbered from 1 in input order; id is set when imported, error when rejected
+     */
+    public record RowOutcome(int row, Long id, String error) {
+
+        static RowOutcome imported(int row, Long id) {
+            return new RowOutcome(row, id, null);
+        }
+
+        static RowOutcome rejected(int row, String error) {
+            return new RowOutcome(row, null, error);
+        }
+
+        public boolean isImported() {
+            return id != null;
+        }
+    }
+
+    public record ImportResult(List<RowOutcome> rows) {
+
+        public long imported() {
+            return rows.stream().filter(RowOutcome::isImported).count();
+        }
+
+        public long rejected() {
+            return rows.size() - imported();
+        }
+    }
+}
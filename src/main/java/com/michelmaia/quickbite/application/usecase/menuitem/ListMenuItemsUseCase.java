@@ -1,41 +1,49 @@
 
 package com.michelmaia.quickbite.application.usecase.menuitem;
 
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
-import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuSnapshot;
 
 import java.util.List;
 
 /**
  * Use Case: List menu items with filters
+ * Every variant is served from the restaurant's cached menu snapshot
  */
 public class ListMenuItemsUseCase {
 
-    private final MenuItemRepository menuItemRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final UnitOfWork unitOfWork;
 
-    public ListMenuItemsUseCase(MenuItemRepository menuItemRepository) {
-        this.menuItemRepository = menuItemRepository;
+    public ListMenuItemsUseCase(MenuSnapshotCache menuSnapshotCache, UnitOfWork unitOfWork) {
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.unitOfWork = unitOfWork;
     }
 
     public List<MenuItem> execute(ListMenuItemsQuery query) {
+        MenuSnapshot menu = unitOfWork.readOnly(() -> menuSnapshotCache.get(query.restaurantId()));
+
         // Filter by availability
         if (query.isAvailable() != null) {
-            return menuItemRepository.findByRestaurantIdAndAvailability(
-                    query.restaurantId(),
-                    query.isAvailable()
-            );
+            return menu.byAvailability(query.isAvailable());
         }
 
         // Filter by name (search)
         if (query.nameSearch() != null && !query.nameSearch().isBlank()) {
-            return menuItemRepository.findByRestaurantIdAndNameContaining(
-                    query.restaurantId(),
-                    query.nameSearch()
-            );
+            return menu.searchByName(query.nameSearch());
         }
 
         // Get all for restaurant
-        return menuItemRepository.findByRestaurantId(query.restaurantId());
+        return menu.items();
+    }
+
+    /**
+     * Version of the restaurant's menu, used to revalidate cached responses without listing items
+     */
+    public long menuVersion(Long restaurantId) {
+        return unitOfWork.readOnly(() -> menuSnapshotCache.version(restaurantId));
     }
 
     public record ListMenuItemsQuery(
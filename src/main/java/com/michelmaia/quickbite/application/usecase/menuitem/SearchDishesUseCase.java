@@ -0,0 +1,57 @@
+package com.michelmaia.quickbite.application.usecase.menuitem;
+
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
+import com.michelmaia.quickbite.domain.menuitem.repository.DishCursor;
+import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+
+import java.util.List;
+
+/**
+ * Use Case: Search available dishes across all open restaurants, most relevant first
+ * Pages with a keyset cursor, so deep pages cost the same as the first one
+ */
+public class SearchDishesUseCase {
+
+    private final MenuItemRepository menuItemRepository;
+
+    public SearchDishesUseCase(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    public CursorPageResponseDTO<DishMatch> execute(SearchDishesQuery query) {
+        DishCursor cursor = null;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            cursor = DishCursor.decode(query.cursor());
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<DishMatch> dishes = menuItemRepository.searchDishes(query.text().trim(), cursor, query.size() + 1);
+
+        String nextCursor = null;
+        if (dishes.size() > query.size()) {
+            dishes = dishes.subList(0, query.size());
+            nextCursor = DishCursor.after(dishes.get(dishes.size() - 1)).encode();
+        }
+
+        return new CursorPageResponseDTO<>(dishes, query.size(), nextCursor);
+    }
+
+    public record SearchDishesQuery(
+            String text,
+            String cursor,
+            int size
+    ) {
+        public SearchDishesQuery {
+            if (text == null || text.isBlank()) {
+                throw new IllegalArgumentException("Search text is required");
+            }
+            if (size <= 0) {
+                throw new IllegalArgumentException("Size must be positive");
+            }
+            if (size > 100) {
+                throw new IllegalArgumentException("Size must not exceed 100");
+            }
+        }
+    }
+}
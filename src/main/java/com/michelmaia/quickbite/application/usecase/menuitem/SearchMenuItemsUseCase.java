@@ -0,0 +1,57 @@
+package com.michelmaia.quickbite.application.usecase.menuitem;
+
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+
+/**
+ * Use Case: Search a restaurant's menu, most relevant dishes first
+ * Tolerates typos and matches dish descriptions, so it runs in the database rather than on the menu snapshot
+ */
+public class SearchMenuItemsUseCase {
+
+    private final MenuItemRepository menuItemRepository;
+
+    public SearchMenuItemsUseCase(MenuItemRepository menuItemRepository) {
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    public PageResponseDTO<MenuItem> execute(SearchMenuItemsQuery query) {
+        PageResult<MenuItem> menuItems = menuItemRepository.searchByRestaurantId(
+                query.restaurantId(),
+                query.text().trim(),
+                query.page(),
+                query.size(),
+                query.withTotal()
+        );
+
+        return PageResponseDTO.of(menuItems, query.page(), query.size());
+    }
+
+    public record SearchMenuItemsQuery(
+            Long restaurantId,
+            String text,
+            int page,
+            int size,
+            boolean withTotal
+    ) {
+        public SearchMenuItemsQuery {
+            if (restaurantId == null) {
+                throw new IllegalArgumentException("Restaurant ID is required");
+            }
+            if (text == null || text.isBlank()) {
+                throw new IllegalArgumentException("Search text is required");
+            }
+            if (page < 0) {
+                throw new IllegalArgumentException("Page must be non-negative");
+            }
+            if (size <= 0) {
+                throw new IllegalArgumentException("Size must be positive");
+            }
+            if (size > 100) {
+                throw new IllegalArgumentException("Size must not exceed 100");
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.michelmaia.quickbite.application.usecase.menuitem;
 
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
 import com.michelmaia.quickbite.domain.menuitem.exception.MenuItemNotFoundException;
 import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
@@ -10,12 +12,22 @@ import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
 public class UpdateMenuItemUseCase {
 
     private final MenuItemRepository menuItemRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final UnitOfWork unitOfWork;
 
-    public UpdateMenuItemUseCase(MenuItemRepository menuItemRepository) {
+    public UpdateMenuItemUseCase(MenuItemRepository menuItemRepository,
+                                 MenuSnapshotCache menuSnapshotCache,
+                                 UnitOfWork unitOfWork) {
         this.menuItemRepository = menuItemRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.unitOfWork = unitOfWork;
     }
 
     public MenuItem execute(UpdateMenuItemCommand command) {
+        return unitOfWork.execute(() -> update(command));
+    }
+
+    private MenuItem update(UpdateMenuItemCommand command) {
         // Find existing menu item
         MenuItem menuItem = menuItemRepository.findById(command.menuItemId())
                 .orElseThrow(() -> new MenuItemNotFoundException(command.menuItemId()));
@@ -37,7 +49,13 @@ public class UpdateMenuItemUseCase {
             }
         }
 
-        return menuItemRepository.save(menuItem);
+        MenuItem saved = menuItemRepository.save(menuItem);
+
+        // Menu changed: new version for cached snapshots
+        menuItemRepository.incrementMenuVersion(saved.getRestaurantId());
+        menuSnapshotCache.evict(saved.getRestaurantId());
+
+        return saved;
     }
 
     public record UpdateMenuItemCommand(
@@ -1,8 +1,11 @@
 
 package com.michelmaia.quickbite.application.usecase.restaurant;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
 import com.michelmaia.quickbite.domain.restaurant.exception.UnauthorizedRestaurantOwnerException;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
 import com.michelmaia.quickbite.domain.user.entity.Role;
@@ -10,6 +13,8 @@ import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 
+import java.util.List;
+
 /**
  * Use Case: Create a new restaurant
  */
@@ -17,14 +22,21 @@ public class CreateRestaurantUseCase {
 
     private final RestaurantRepository restaurantRepository;
     private final UserRepository userRepository;
+    private final UnitOfWork unitOfWork;
 
     public CreateRestaurantUseCase(RestaurantRepository restaurantRepository,
-                                   UserRepository userRepository) {
+                                   UserRepository userRepository,
+                                   UnitOfWork unitOfWork) {
         this.restaurantRepository = restaurantRepository;
         this.userRepository = userRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     public Restaurant execute(CreateRestaurantCommand command) {
+        return unitOfWork.execute(() -> create(command));
+    }
+
+    private Restaurant create(CreateRestaurantCommand command) {
         // Business rule: Owner must exist
         User owner = userRepository.findById(command.ownerId())
                 .orElseThrow(() -> new UserNotFoundException("Owner not found with id: " + command.ownerId()));
@@ -39,7 +51,8 @@ public class CreateRestaurantUseCase {
                 command.street(),
                 command.city(),
                 command.state(),
-                command.zipCode()
+                command.zipCode(),
+                GeoPoint.ofNullable(command.latitude(), command.longitude())
         );
 
         // Create restaurant
@@ -51,7 +64,10 @@ public class CreateRestaurantUseCase {
                 command.openingHours()
         );
 
-        // Optional: Set initial rating and open status if provided
+        // Optional: Set the weekly schedule, initial rating and open status if provided
+        if (command.timeZone() != null) {
+            restaurant.updateSchedule(WeeklySchedule.of(command.timeZone(), command.shifts()));
+        }
         if (command.rating() != null) {
             restaurant.updateRating(command.rating());
         }
@@ -70,7 +86,11 @@ public class CreateRestaurantUseCase {
             String city,
             String state,
             String zipCode,
+            Double latitude,
+            Double longitude,
             String openingHours,
+            String timeZone,
+            List<WeeklySchedule.Shift> shifts,
             Double rating,
             Boolean isOpen
     ) {}
@@ -1,5 +1,6 @@
 package com.michelmaia.quickbite.application.usecase.restaurant;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
 import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
@@ -12,12 +13,18 @@ import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepositor
 public class DeleteRestaurantUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
 
-    public DeleteRestaurantUseCase(RestaurantRepository restaurantRepository) {
+    public DeleteRestaurantUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
         this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     public void execute(Long restaurantId) {
+        unitOfWork.run(() -> delete(restaurantId));
+    }
+
+    private void delete(Long restaurantId) {
         // Find restaurant
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
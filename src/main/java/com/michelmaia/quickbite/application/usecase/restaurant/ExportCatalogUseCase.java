@@ -0,0 +1,32 @@
+package com.michelmaia.quickbite.application.usecase.restaurant;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+
+import java.util.function.Consumer;
+
+/**
+ * Use Case: Export the whole restaurant catalog
+ * Entries are handed to the consumer as they are read, so memory does not grow with the catalog
+ */
+public class ExportCatalogUseCase {
+
+    private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
+
+    public ExportCatalogUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
+        this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    // One read-only transaction keeps the database cursor open and the export consistent
+    public void execute(ExportCatalogQuery query, Consumer<CatalogEntry> consumer) {
+        unitOfWork.readOnly(() -> {
+            restaurantRepository.forEachInCatalog(query.withMenus(), consumer);
+            return null;
+        });
+    }
+
+    public record ExportCatalogQuery(boolean withMenus) {}
+}
@@ -0,0 +1,63 @@
+package com.michelmaia.quickbite.application.usecase.restaurant;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
+import com.michelmaia.quickbite.domain.restaurant.entity.NearbyRestaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+
+import java.util.List;
+
+/**
+ * Use Case: Find restaurants around a location, nearest first
+ * Restaurants without a geocoded address never match.
+ */
+public class FindNearbyRestaurantsUseCase {
+
+    public static final double MAX_RADIUS_KM = 50;
+
+    private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
+
+    public FindNearbyRestaurantsUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
+        this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    public List<NearbyRestaurant> execute(NearbyRestaurantsQuery query) {
+        return unitOfWork.readOnly(() -> restaurantRepository.findNearby(
+                query.origin(),
+                query.radiusKm(),
+                query.criteria(),
+                query.size()
+        ));
+    }
+
+    public record NearbyRestaurantsQuery(
+            GeoPoint origin,
+            double radiusKm,
+            RestaurantCriteria criteria,
+            int size
+    ) {
+        public NearbyRestaurantsQuery {
+            if (origin == null) {
+                throw new IllegalArgumentException("Location is required");
+            }
+            if (!(radiusKm > 0)) {
+                throw new IllegalArgumentException("Radius must be positive");
+            }
+            if (radiusKm > MAX_RADIUS_KM) {
+                throw new IllegalArgumentException("Radius must not exceed " + (int) MAX_RADIUS_KM + " km");
+            }
+            if (size <= 0) {
+                throw new IllegalArgumentException("Size must be positive");
+            }
+            if (size > 100) {
+                throw new IllegalArgumentException("Size must not exceed 100");
+            }
+            if (criteria == null) {
+                criteria = RestaurantCriteria.any();
+            }
+        }
+    }
+}
@@ -1,22 +1,48 @@
 package com.michelmaia.quickbite.application.usecase.restaurant;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
 import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
 
+import java.time.LocalDateTime;
+
 /**
  * Use Case: Get restaurant by ID
  */
 public class GetRestaurantUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
 
-    public GetRestaurantUseCase(RestaurantRepository restaurantRepository) {
+    public GetRestaurantUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
         this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     public Restaurant execute(Long restaurantId) {
-        return restaurantRepository.findById(restaurantId)
+        return unitOfWork.readOnly(() -> restaurantRepository.findById(restaurantId))
+                .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+    }
+
+    /**
+     * The restaurant as of lastModified, for responses tagged with it: a cached copy older than that is
+     * replaced by the committed row
+     */
+    public Restaurant execute(Long restaurantId, LocalDateTime lastModified) {
+        Restaurant restaurant = execute(restaurantId);
+        if (lastModified.equals(restaurant.getUpdatedAt())) {
+            return restaurant;
+        }
+        return unitOfWork.readOnly(() -> restaurantRepository.findCurrentById(restaurantId))
+                .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
+    }
+
+    /**
+     * Last modification time, without loading the restaurant
+     */
+    public LocalDateTime lastModified(Long restaurantId) {
+        return unitOfWork.readOnly(() -> restaurantRepository.findUpdatedAtById(restaurantId))
                 .orElseThrow(() -> new RestaurantNotFoundException(restaurantId));
     }
 }
\ No newline at end of file
@@ -1,61 +1,88 @@
 package com.michelmaia.quickbite.application.usecase.restaurant;
 
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
 import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.service.ConcurrentReads;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCursor;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
 
 import java.util.List;
 
 /**
- * Use Case: List restaurants with pagination and filters
+ * Use Case: List restaurants with pagination and any combination of filters
  */
 public class ListRestaurantsUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
+    private final ConcurrentReads concurrentReads;
 
-    public ListRestaurantsUseCase(RestaurantRepository restaurantRepository) {
+    public ListRestaurantsUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork,
+                                  ConcurrentReads concurrentReads) {
         this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
+        this.concurrentReads = concurrentReads;
     }
 
     public PageResponseDTO<Restaurant> execute(ListRestaurantsQuery query) {
-        List<Restaurant> restaurants;
-        long totalCount;
-
-        if (query.cuisine() != null && !query.cuisine().isBlank()) {
-            // Filter by cuisine
-            restaurants = restaurantRepository.findByCuisine(
-                    query.cuisine(),
-                    query.page(),
-                    query.size()
+        PageResult<Restaurant> restaurants;
+        if (query.withTotal()) {
+            // The page stops at its LIMIT while the count runs beside it, rather than one query doing both
+            restaurants = concurrentReads.both(
+                    () -> restaurantRepository.findByCriteria(query.criteria(), query.page(), query.size()),
+                    () -> restaurantRepository.countByCriteria(query.criteria()),
+                    PageResult::withTotal
             );
-            totalCount = restaurantRepository.countByCuisine(query.cuisine());
-        } else if (query.minRating() != null) {
-            // Filter by rating
-            restaurants = restaurantRepository.findByMinRating(
-                    query.minRating(),
+        } else {
+            restaurants = unitOfWork.readOnly(() -> restaurantRepository.findByCriteria(
+                    query.criteria(),
                     query.page(),
                     query.size()
-            );
-            totalCount = restaurantRepository.countByMinRating(query.minRating());
-        } else {
-            // Get all
-            restaurants = restaurantRepository.findAll(query.page(), query.size());
-            totalCount = restaurantRepository.count();
+            ));
+        }
+
+        return PageResponseDTO.of(restaurants, query.page(), query.size());
+    }
+
+    /**
+     * Keyset (cursor) mode: the cost of a page does not grow with its depth
+     * and concurrent inserts never shift rows between pages
+     */
+    public CursorPageResponseDTO<Restaurant> scroll(ScrollRestaurantsQuery query) {
+        RestaurantSortOrder order = query.criteria().order();
+
+        RestaurantCursor cursor = null;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            cursor = RestaurantCursor.decode(query.cursor());
+            if (cursor.order() != order) {
+                throw new IllegalArgumentException("Cursor does not match the requested filters");
+            }
+        }
+
+        // Fetch one extra row to know whether another page exists
+        RestaurantCursor after = cursor;
+        List<Restaurant> restaurants = unitOfWork.readOnly(() ->
+                restaurantRepository.findByCriteriaAfter(query.criteria(), after, query.size() + 1));
+
+        String nextCursor = null;
+        if (restaurants.size() > query.size()) {
+            restaurants = restaurants.subList(0, query.size());
+            nextCursor = RestaurantCursor.after(order, restaurants.get(restaurants.size() - 1)).encode();
         }
 
-        return new PageResponseDTO<>(
-                restaurants,
-                query.page(),
-                query.size(),
-                totalCount
-        );
+        return new CursorPageResponseDTO<>(restaurants, query.size(), nextCursor);
     }
 
     public record ListRestaurantsQuery(
             int page,
             int size,
-            String cuisine,
-            Double minRating
+            RestaurantCriteria criteria,
+            boolean withTotal
     ) {
         public ListRestaurantsQuery {
             if (page < 0) {
@@ -67,11 +94,36 @@ public class ListRestaurantsUseCase {
             if (size > 100) {
                 throw new IllegalArgumentException("Size must not exceed 100");
             }
+            if (criteria == null) {
+                criteria = RestaurantCriteria.any();
+            }
         }
 
         // Convenience constructors
         public ListRestaurantsQuery(int page, int size) {
-            this(page, size, null, null);
+            this(page, size, RestaurantCriteria.any(), true);
+        }
+
+        public ListRestaurantsQuery(int page, int size, String cuisine, Double minRating) {
+            this(page, size, new RestaurantCriteria(cuisine, minRating, null, null, null, null, null), true);
+        }
+    }
+
+    public record ScrollRestaurantsQuery(
+            String cursor,
+            int size,
+            RestaurantCriteria criteria
+    ) {
+        public ScrollRestaurantsQuery {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Size must be positive");
+            }
+            if (size > 100) {
+                throw new IllegalArgumentException("Size must not exceed 100");
+            }
+            if (criteria == null) {
+                criteria = RestaurantCriteria.any();
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,34 @@
 
 package com.michelmaia.quickbite.application.usecase.restaurant;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
 import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
 
+import java.util.List;
+
 /**
  * Use Case: Update restaurant information
  */
 public class UpdateRestaurantUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
 
-    public UpdateRestaurantUseCase(RestaurantRepository restaurantRepository) {
+    public UpdateRestaurantUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
         this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     public Restaurant execute(UpdateRestaurantCommand command) {
+        return unitOfWork.execute(() -> update(command));
+    }
+
+    private Restaurant update(UpdateRestaurantCommand command) {
         // Find existing restaurant
         Restaurant restaurant = restaurantRepository.findById(command.restaurantId())
                 .orElseThrow(() -> new RestaurantNotFoundException(command.restaurantId()));
@@ -29,7 +40,8 @@ public class UpdateRestaurantUseCase {
                     command.street(),
                     command.city(),
                     command.state(),
-                    command.zipCode()
+                    command.zipCode(),
+                    GeoPoint.ofNullable(command.latitude(), command.longitude())
             );
         }
 
@@ -41,6 +53,11 @@ public class UpdateRestaurantUseCase {
                 command.openingHours()
         );
 
+        // Replace the weekly schedule if provided
+        if (command.timeZone() != null) {
+            restaurant.updateSchedule(WeeklySchedule.of(command.timeZone(), command.shifts()));
+        }
+
         // Update rating if provided
         if (command.rating() != null) {
             restaurant.updateRating(command.rating());
@@ -66,7 +83,11 @@ public class UpdateRestaurantUseCase {
             String city,
             String state,
             String zipCode,
+            Double latitude,
+            Double longitude,
             String openingHours,
+            String timeZone,
+            List<WeeklySchedule.Shift> shifts,
             Double rating,
             Boolean isOpen
     ) {}
@@ -0,0 +1,26 @@
+package com.michelmaia.quickbite.application.usecase.review;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+
+/**
+ * Use Case: Fold the ratings of new reviews into their restaurants' running ratings
+ * Run periodically, so a burst of reviews costs each restaurant row one update per run.
+ */
+public class ApplyPendingRatingsUseCase {
+
+    private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
+
+    public ApplyPendingRatingsUseCase(RestaurantRepository restaurantRepository, UnitOfWork unitOfWork) {
+        this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    /**
+     * @return the number of restaurants whose rating changed
+     */
+    public int execute() {
+        return unitOfWork.execute(() -> restaurantRepository.applyPendingRatings().size());
+    }
+}
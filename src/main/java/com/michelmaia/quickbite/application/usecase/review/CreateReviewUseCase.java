@@ -0,0 +1,77 @@
+package com.michelmaia.quickbite.application.usecase.review;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
+import com.michelmaia.quickbite.domain.restaurant.exception.UnauthorizedRestaurantAccessException;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.domain.review.entity.Review;
+import com.michelmaia.quickbite.domain.review.exception.ReviewAlreadyExistsException;
+import com.michelmaia.quickbite.domain.review.repository.ReviewRepository;
+import com.michelmaia.quickbite.domain.user.entity.User;
+import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
+import com.michelmaia.quickbite.domain.user.repository.UserRepository;
+
+/**
+ * Use Case: Review a restaurant as the authenticated user
+ * The review's rating reaches the restaurant's rating with the next fold of pending ratings.
+ */
+public class CreateReviewUseCase {
+
+    private final ReviewRepository reviewRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final UserRepository userRepository;
+    private final UnitOfWork unitOfWork;
+
+    public CreateReviewUseCase(ReviewRepository reviewRepository,
+                               RestaurantRepository restaurantRepository,
+                               UserRepository userRepository,
+                               UnitOfWork unitOfWork) {
+        this.reviewRepository = reviewRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.userRepository = userRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    public Review execute(CreateReviewCommand command) {
+        return unitOfWork.execute(() -> create(command));
+    }
+
+    private Review create(CreateReviewCommand command) {
+        // Business rule: Restaurant must exist
+        Restaurant restaurant = restaurantRepository.findById(command.restaurantId())
+                .orElseThrow(() -> new RestaurantNotFoundException(command.restaurantId()));
+
+        User user = userRepository.findByUsername(command.username())
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + command.username()));
+
+        // Business rule: Owners cannot rate their own restaurant
+        if (user.getId().equals(restaurant.getOwnerId())) {
+            throw new UnauthorizedRestaurantAccessException("Owners cannot review their own restaurant");
+        }
+
+        // Business rule: One review per user and restaurant
+        if (reviewRepository.existsByRestaurantIdAndUserId(restaurant.getId(), user.getId())) {
+            throw new ReviewAlreadyExistsException(restaurant.getId());
+        }
+
+        return reviewRepository.save(
+                Review.createNew(restaurant.getId(), user.getId(), command.rating(), command.comment()));
+    }
+
+    public record CreateReviewCommand(
+            Long restaurantId,
+            String username,
+            Integer rating,
+            String comment
+    ) {
+        public CreateReviewCommand {
+            if (restaurantId == null) {
+                throw new IllegalArgumentException("Restaurant ID is required");
+            }
+            if (username == null || username.isBlank()) {
+                throw new IllegalArgumentException("Username is required");
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.michelmaia.quickbite.application.usecase.review;
+
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.domain.review.entity.Review;
+import com.michelmaia.quickbite.domain.review.repository.ReviewRepository;
+
+/**
+ * Use Case: List a restaurant's reviews, newest first
+ */
+public class ListReviewsUseCase {
+
+    private final ReviewRepository reviewRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final UnitOfWork unitOfWork;
+
+    public ListReviewsUseCase(ReviewRepository reviewRepository,
+                              RestaurantRepository restaurantRepository,
+                              UnitOfWork unitOfWork) {
+        this.reviewRepository = reviewRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    public PageResponseDTO<Review> execute(ListReviewsQuery query) {
+        PageResult<Review> reviews = unitOfWork.readOnly(() -> {
+            if (!restaurantRepository.existsById(query.restaurantId())) {
+                throw new RestaurantNotFoundException(query.restaurantId());
+            }
+            return reviewRepository.findByRestaurantId(
+                    query.restaurantId(), query.page(), query.size(), query.withTotal());
+        });
+
+        return PageResponseDTO.of(reviews, query.page(), query.size());
+    }
+
+    public record ListReviewsQuery(
+            Long restaurantId,
+            int page,
+            int size,
+            boolean withTotal
+    ) {
+        public ListReviewsQuery {
+            if (restaurantId == null) {
+                throw new IllegalArgumentException("Restaurant ID is required");
+            }
+            if (page < 0) {
+                throw new IllegalArgumentException("Page must be non-negative");
+            }
+            if (size <= 0) {
+                throw new IllegalArgumentException("Size must be positive");
+            }
+            if (size > 100) {
+                throw new IllegalArgumentException("Size must not exceed 100");
+            }
+        }
+    }
+}
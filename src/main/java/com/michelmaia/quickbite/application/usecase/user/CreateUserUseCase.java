@@ -1,6 +1,7 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.common.entity.Address;
 import com.michelmaia.quickbite.domain.user.entity.Role;
 import com.michelmaia.quickbite.domain.user.entity.User;
@@ -18,10 +19,13 @@ public class CreateUserUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UnitOfWork unitOfWork;
     
-    public CreateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public CreateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                             UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.unitOfWork = unitOfWork;
     }
     
     public User execute(CreateUserCommand command) {
@@ -82,8 +86,8 @@ public class CreateUserUseCase {
             user.getUpdatedAt()
         );
         
-        // Persist
-        return userRepository.save(userWithEncodedPassword);
+        // Persist address, user and roles atomically
+        return unitOfWork.execute(() -> userRepository.save(userWithEncodedPassword));
     }
     
     /**
@@ -1,5 +1,6 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
@@ -14,9 +15,11 @@ import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 public class DeleteUserUseCase {
     
     private final UserRepository userRepository;
+    private final UnitOfWork unitOfWork;
     
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository, UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
+        this.unitOfWork = unitOfWork;
     }
     
     /**
@@ -27,6 +30,10 @@ public class DeleteUserUseCase {
      * @throws UserHasRestaurantsException if user owns restaurants (thrown by infrastructure)
      */
     public void execute(Long userId) {
+        unitOfWork.run(() -> delete(userId));
+    }
+    
+    private void delete(Long userId) {
         // Find the user
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
@@ -1,5 +1,6 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
@@ -10,13 +11,15 @@ import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 public class GetUserUseCase {
     
     private final UserRepository userRepository;
+    private final UnitOfWork unitOfWork;
     
-    public GetUserUseCase(UserRepository userRepository) {
+    public GetUserUseCase(UserRepository userRepository, UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
+        this.unitOfWork = unitOfWork;
     }
     
     public User execute(Long userId) {
-        return userRepository.findById(userId)
+        return unitOfWork.readOnly(() -> userRepository.findById(userId))
             .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
     }
 }
@@ -1,20 +1,25 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
 import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.service.ConcurrentReads;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 
-import java.util.List;
-
 /**
  * Use Case: List users with pagination and optional role filtering
  */
 public class ListUsersUseCase {
     
     private final UserRepository userRepository;
+    private final UnitOfWork unitOfWork;
+    private final ConcurrentReads concurrentReads;
     
-    public ListUsersUseCase(UserRepository userRepository) {
+    public ListUsersUseCase(UserRepository userRepository, UnitOfWork unitOfWork, ConcurrentReads concurrentReads) {
         this.userRepository = userRepository;
+        this.unitOfWork = unitOfWork;
+        this.concurrentReads = concurrentReads;
     }
     
     /**
@@ -24,27 +29,27 @@ public class ListUsersUseCase {
      * @return PageResponseDTO containing the list of users and pagination info
      */
     public PageResponseDTO<User> execute(ListUsersQuery query) {
-        // Fetch users based on role filter if provided
-        List<User> users;
-        long totalCount;
-        
-        if (query.roleId() != null) {
-            users = userRepository.findByRole(query.roleId(), query.page(), query.size());
-            // For simplicity, we'll get the total count by querying all and counting
-            // In a real implementation, you'd want a countByRole method in the repository
-            totalCount = userRepository.findByRole(query.roleId(), 0, Integer.MAX_VALUE).size();
+        // Fetch users based on role filter if provided; the total is counted concurrently with the page
+        PageResult<User> users;
+        if (query.withTotal()) {
+            users = concurrentReads.both(
+                    () -> findPage(query),
+                    () -> query.roleId() != null ? userRepository.countByRole(query.roleId()) : userRepository.count(),
+                    PageResult::withTotal
+            );
         } else {
-            users = userRepository.findAll(query.page(), query.size());
-            totalCount = userRepository.count();
+            users = unitOfWork.readOnly(() -> findPage(query));
         }
         
         // Build page response
-        return new PageResponseDTO<>(
-            users,
-            query.page(),
-            query.size(),
-            totalCount
-        );
+        return PageResponseDTO.of(users, query.page(), query.size());
+    }
+    
+    private PageResult<User> findPage(ListUsersQuery query) {
+        if (query.roleId() != null) {
+            return userRepository.findByRole(query.roleId(), query.page(), query.size());
+        }
+        return userRepository.findAll(query.page(), query.size());
     }
     
     /**
@@ -53,11 +58,13 @@ public class ListUsersUseCase {
      * @param page The page number (0-indexed)
      * @param size The number of items per page
      * @param roleId Optional role ID to filter by
+     * @param withTotal Whether to count the matching users; otherwise only hasNext is reported
      */
     public record ListUsersQuery(
         int page,
         int size,
-        Long roleId
+        Long roleId,
+        boolean withTotal
     ) {
         public ListUsersQuery {
             // Validation
@@ -74,7 +81,11 @@ public class ListUsersUseCase {
         
         // Convenience constructor without role filter
         public ListUsersQuery(int page, int size) {
-            this(page, size, null);
+            this(page, size, null, true);
+        }
+        
+        public ListUsersQuery(int page, int size, Long roleId) {
+            this(page, size, roleId, true);
         }
     }
 }
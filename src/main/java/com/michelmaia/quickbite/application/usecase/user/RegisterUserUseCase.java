@@ -1,6 +1,7 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.common.entity.Address;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserAlreadyExistsException;
@@ -14,10 +15,13 @@ public class RegisterUserUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UnitOfWork unitOfWork;
     
-    public RegisterUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public RegisterUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                             UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.unitOfWork = unitOfWork;
     }
     
     public User execute(RegisterUserCommand command) {
@@ -62,8 +66,8 @@ public class RegisterUserUseCase {
             user.getUpdatedAt()
         );
         
-        // Persist
-        return userRepository.save(userWithEncodedPassword);
+        // Persist address, user and roles atomically
+        return unitOfWork.execute(() -> userRepository.save(userWithEncodedPassword));
     }
     
     // Command object (input data)
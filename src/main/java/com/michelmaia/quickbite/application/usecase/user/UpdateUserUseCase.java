@@ -1,6 +1,7 @@
 package com.michelmaia.quickbite.application.usecase.user;
 
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.domain.common.entity.Address;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserNotFoundException;
@@ -13,13 +14,25 @@ public class UpdateUserUseCase {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UnitOfWork unitOfWork;
     
-    public UpdateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UpdateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                             UnitOfWork unitOfWork) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.unitOfWork = unitOfWork;
     }
     
     public User execute(UpdateUserCommand command) {
+        // Hash before opening the transaction so no connection is held while hashing
+        String encodedPassword = command.password() != null && !command.password().isBlank()
+            ? passwordEncoder.encode(command.password())
+            : null;
+        
+        return unitOfWork.execute(() -> update(command, encodedPassword));
+    }
+    
+    private User update(UpdateUserCommand command, String encodedPassword) {
         User user = userRepository.findById(command.userId())
             .orElseThrow(() -> new UserNotFoundException("User not found with id: " + command.userId()));
         
@@ -34,8 +47,7 @@ public class UpdateUserUseCase {
         user.updateProfile(command.name(), command.email(), newAddress);
         
         // Update password if provided
-        if (command.password() != null && !command.password().isBlank()) {
-            String encodedPassword = passwordEncoder.encode(command.password());
+        if (encodedPassword != null) {
             user.changePassword(encodedPassword);
         }
         
@@ -0,0 +1,31 @@
+package com.michelmaia.quickbite.domain.auth.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain Entity - A long-lived credential exchanged for new access tokens, usable once
+ * Only a digest of the token is kept. Every token rotated out of one login shares its familyId,
+ * so presenting an already used token can revoke the whole chain.
+ */
+public record RefreshToken(
+        Long userId,
+        String tokenHash,
+        UUID familyId,
+        LocalDateTime expiresAt
+) {
+    public RefreshToken {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        if (tokenHash == null || tokenHash.isBlank()) {
+            throw new IllegalArgumentException("Token hash is required");
+        }
+        if (familyId == null) {
+            throw new IllegalArgumentException("Token family is required");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiration is required");
+        }
+    }
+}
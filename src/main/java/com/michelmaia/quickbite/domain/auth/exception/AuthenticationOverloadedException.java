@@ -0,0 +1,18 @@
+package com.michelmaia.quickbite.domain.auth.exception;
+
+/**
+ * Domain exception when password checks are shed because too many are already waiting
+ */
+public class AuthenticationOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuthenticationOverloadedException(long retryAfterSeconds) {
+        super("Too many authentication requests, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,14 @@
+package com.michelmaia.quickbite.domain.auth.exception;
+
+/**
+ * Domain exception for unknown, expired, revoked or already used refresh tokens
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidRefreshTokenException() {
+        super("Invalid or expired refresh token");
+    }
+}
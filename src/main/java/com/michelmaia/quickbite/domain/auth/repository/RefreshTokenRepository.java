@@ -0,0 +1,29 @@
+package com.michelmaia.quickbite.domain.auth.repository;
+
+import com.michelmaia.quickbite.domain.auth.entity.RefreshToken;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain Repository Interface
+ * Defined by the domain, implemented by infrastructure
+ */
+public interface RefreshTokenRepository {
+
+    void save(RefreshToken refreshToken);
+
+    // Marks the token used and returns it, atomically; empty when unknown, already used, revoked or expired
+    Optional<RefreshToken> consume(String tokenHash);
+
+    // Family of a token that was already used: presenting it again means it leaked
+    Optional<UUID> findFamilyIdIfUsed(String tokenHash);
+
+    int revokeFamily(UUID familyId);
+
+    int revokeAllByUserId(Long userId);
+
+    // Deletes up to limit tokens that expired more than retention ago, used or not
+    int deleteExpired(Duration retention, int limit);
+}
@@ -11,8 +11,14 @@ public class Address {
     private final String city;
     private final String state;
     private final String zipCode;
+    // Geocoded by the client; null when unknown
+    private final GeoPoint location;
     
     public Address(String street, String city, String state, String zipCode) {
+        this(street, city, state, zipCode, null);
+    }
+    
+    public Address(String street, String city, String state, String zipCode, GeoPoint location) {
         if (street == null || street.trim().isEmpty()) {
             throw new IllegalArgumentException("Street cannot be empty");
         }
@@ -30,12 +36,14 @@ public class Address {
         this.city = city;
         this.state = state;
         this.zipCode = zipCode;
+        this.location = location;
     }
     
     public String getStreet() { return street; }
     public String getCity() { return city; }
     public String getState() { return state; }
     public String getZipCode() { return zipCode; }
+    public GeoPoint getLocation() { return location; }
     
     @Override
     public boolean equals(Object o) {
@@ -45,12 +53,13 @@ public class Address {
         return Objects.equals(street, address.street) &&
                Objects.equals(city, address.city) &&
                Objects.equals(state, address.state) &&
-               Objects.equals(zipCode, address.zipCode);
+               Objects.equals(zipCode, address.zipCode) &&
+               Objects.equals(location, address.location);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(street, city, state, zipCode);
+        return Objects.hash(street, city, state, zipCode, location);
     }
     
     @Override
@@ -0,0 +1,29 @@
+package com.michelmaia.quickbite.domain.common.entity;
+
+/**
+ * Domain Value Object for a point on the globe, in decimal degrees (WGS 84)
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public GeoPoint {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+    }
+
+    /**
+     * Both coordinates or neither: a null result means the location is unknown
+     */
+    public static GeoPoint ofNullable(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+}
@@ -0,0 +1,23 @@
+package com.michelmaia.quickbite.domain.common.repository;
+
+import java.util.List;
+
+/**
+ * One page of an offset-paginated query.
+ * totalElements is null when the caller opted out of counting; hasNext is always known.
+ */
+public record PageResult<T>(List<T> content, Long totalElements, boolean hasNext) {
+
+    public PageResult {
+        content = List.copyOf(content);
+    }
+
+    public boolean hasTotal() {
+        return totalElements != null;
+    }
+
+    // The same page with a total counted separately
+    public PageResult<T> withTotal(long totalElements) {
+        return new PageResult<>(content, totalElements, hasNext);
+    }
+}
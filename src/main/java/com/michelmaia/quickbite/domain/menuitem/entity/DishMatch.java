@@ -0,0 +1,14 @@
+package com.michelmaia.quickbite.domain.menuitem.entity;
+
+/**
+ * Read Model: a dish found by the cross-restaurant search, with a summary of the restaurant serving it
+ * The score is the search relevance; higher is better
+ */
+public record DishMatch(
+        MenuItem menuItem,
+        String restaurantName,
+        String restaurantCuisine,
+        Double restaurantRating,
+        float score
+) {
+}
@@ -0,0 +1,76 @@
+package com.michelmaia.quickbite.domain.menuitem.entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Domain Read Model - Immutable view of a restaurant's whole menu at a given menu version
+ * Filters run in memory; callers always receive their own copies of the items
+ */
+public final class MenuSnapshot {
+
+    private final Long restaurantId;
+    private final long version;
+    private final List<MenuItem> items;
+    private final List<String> lowerCaseNames;
+
+    public MenuSnapshot(Long restaurantId, long version, List<MenuItem> items) {
+        if (restaurantId == null) {
+            throw new IllegalArgumentException("Restaurant ID cannot be null");
+        }
+        this.restaurantId = restaurantId;
+        this.version = version;
+        this.items = items.stream().map(MenuSnapshot::copy).toList();
+        this.lowerCaseNames = this.items.stream()
+                .map(item -> item.getName().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public static MenuSnapshot empty(Long restaurantId) {
+        return new MenuSnapshot(restaurantId, 0L, List.of());
+    }
+
+    public Long getRestaurantId() { return restaurantId; }
+    public long getVersion() { return version; }
+
+    // All items, newest first
+    public List<MenuItem> items() {
+        return items.stream().map(MenuSnapshot::copy).toList();
+    }
+
+    public List<MenuItem> byAvailability(boolean isAvailable) {
+        return items.stream()
+                .filter(item -> item.isAvailable() == isAvailable)
+                .map(MenuSnapshot::copy)
+                .toList();
+    }
+
+    // Case-insensitive partial match on the name, ordered by name
+    public List<MenuItem> searchByName(String term) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        List<MenuItem> matches = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (lowerCaseNames.get(i).contains(needle)) {
+                matches.add(copy(items.get(i)));
+            }
+        }
+        matches.sort(Comparator.comparing(MenuItem::getName, String.CASE_INSENSITIVE_ORDER));
+        return matches;
+    }
+
+    private static MenuItem copy(MenuItem item) {
+        return MenuItem.reconstruct(
+                item.getId(),
+                item.getRestaurantId(),
+                item.getName(),
+                item.getDescription(),
+                item.getPrice(),
+                item.getImageUrl(),
+                item.isAvailable(),
+                item.getCreatedAt(),
+                item.getUpdatedAt()
+        );
+    }
+}
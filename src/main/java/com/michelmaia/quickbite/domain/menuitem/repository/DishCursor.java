@@ -0,0 +1,44 @@
+package com.michelmaia.quickbite.domain.menuitem.repository;
+
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Value Object: position of the last dish of a search page
+ * Dishes are ordered by (score, id) descending; the next page starts strictly after this pair
+ */
+public record DishCursor(float score, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public DishCursor {
+        if (!Float.isFinite(score)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static DishCursor after(DishMatch match) {
+        return new DishCursor(match.score(), match.menuItem().getId());
+    }
+
+    // Float.toString round-trips exactly, so the next page compares against the very same score
+    public String encode() {
+        String raw = Float.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DishCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new DishCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.michelmaia.quickbite.domain.menuitem.repository;
 
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
 
 import java.util.List;
@@ -13,6 +15,9 @@ public interface MenuItemRepository {
 
     MenuItem save(MenuItem menuItem);
 
+    // Inserts new menu items in batches, returning them with their ids in the same order
+    List<MenuItem> insertAll(List<MenuItem> menuItems);
+
     Optional<MenuItem> findById(Long id);
 
     List<MenuItem> findByRestaurantId(Long restaurantId);
@@ -21,9 +26,22 @@ public interface MenuItemRepository {
 
     List<MenuItem> findByRestaurantIdAndNameContaining(Long restaurantId, String name);
 
+    // Full-text and typo-tolerant search over name and description, most relevant first
+    PageResult<MenuItem> searchByRestaurantId(Long restaurantId, String text, int page, int size, boolean withTotal);
+
+    long countSearchByRestaurantId(Long restaurantId, String text);
+
+    // Available dishes of open restaurants matching the text, by relevance then id, strictly after the cursor
+    List<DishMatch> searchDishes(String text, DishCursor cursor, int limit);
+
     void delete(MenuItem menuItem);
 
     boolean existsById(Long id);
 
     long countByRestaurantId(Long restaurantId);
+
+    // Menu version of the restaurant; empty when the restaurant does not exist
+    Optional<Long> findMenuVersion(Long restaurantId);
+
+    long incrementMenuVersion(Long restaurantId);
 }
\ No newline at end of file
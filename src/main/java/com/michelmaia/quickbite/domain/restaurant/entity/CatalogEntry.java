@@ -0,0 +1,12 @@
+package com.michelmaia.quickbite.domain.restaurant.entity;
+
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+
+import java.util.List;
+
+/**
+ * Domain Read Model - A restaurant as exported with the catalog, with its menu when requested
+ * menuItems is null when menus were not requested, so an empty menu stays distinguishable
+ */
+public record CatalogEntry(Restaurant restaurant, List<MenuItem> menuItems) {
+}
@@ -0,0 +1,7 @@
+package com.michelmaia.quickbite.domain.restaurant.entity;
+
+/**
+ * Domain Read Model - A restaurant found by the nearby search, with its great-circle distance from the search origin
+ */
+public record NearbyRestaurant(Restaurant restaurant, double distanceKm) {
+}
@@ -4,6 +4,7 @@ package com.michelmaia.quickbite.domain.restaurant.entity;
 import com.michelmaia.quickbite.domain.common.entity.Address;
 import com.michelmaia.quickbite.domain.restaurant.exception.InvalidRestaurantDataException;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -19,6 +20,8 @@ public class Restaurant {
     private String cuisine;
     private Address address;
     private String openingHours;
+    // Structured opening hours; null while only the free-text openingHours is known
+    private WeeklySchedule weeklySchedule;
     private Double rating;
     private boolean isOpen;
     private final LocalDateTime createdAt;
@@ -26,7 +29,7 @@ public class Restaurant {
 
     // Private constructor - use factory methods
     private Restaurant(Long id, Long ownerId, String name, String cuisine,
-                       Address address, String openingHours, Double rating,
+                       Address address, String openingHours, WeeklySchedule weeklySchedule, Double rating,
                        boolean isOpen, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.ownerId = ownerId;
@@ -34,6 +37,7 @@ public class Restaurant {
         this.cuisine = cuisine;
         this.address = address;
         this.openingHours = openingHours;
+        this.weeklySchedule = weeklySchedule;
         this.rating = rating;
         this.isOpen = isOpen;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
@@ -46,15 +50,16 @@ public class Restaurant {
     public static Restaurant createNew(Long ownerId, String name, String cuisine,
                                        Address address, String openingHours) {
         return new Restaurant(null, ownerId, name, cuisine, address, openingHours,
-                0.0, true, null, null);
+                null, 0.0, true, null, null);
     }
 
     // Factory method for reconstructing from database
     public static Restaurant reconstruct(Long id, Long ownerId, String name, String cuisine,
-                                         Address address, String openingHours, Double rating,
-                                         boolean isOpen, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                                         Address address, String openingHours, WeeklySchedule weeklySchedule,
+                                         Double rating, boolean isOpen, LocalDateTime createdAt,
+                                         LocalDateTime updatedAt) {
         return new Restaurant(id, ownerId, name, cuisine, address, openingHours,
-                rating, isOpen, createdAt, updatedAt);
+                weeklySchedule, rating, isOpen, createdAt, updatedAt);
     }
 
     // Business rules validation
@@ -106,6 +111,16 @@ public class Restaurant {
         }
     }
 
+    public void updateSchedule(WeeklySchedule weeklySchedule) {
+        this.weeklySchedule = weeklySchedule;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Open by schedule and not closed by hand; without a schedule it is unknown, so not open
+    public boolean isOpenAt(Instant instant) {
+        return isOpen && weeklySchedule != null && weeklySchedule.isOpenAt(instant);
+    }
+
     public void open() {
         this.isOpen = true;
         this.updatedAt = LocalDateTime.now();
@@ -131,6 +146,7 @@ public class Restaurant {
     public String getCuisine() { return cuisine; }
     public Address getAddress() { return address; }
     public String getOpeningHours() { return openingHours; }
+    public WeeklySchedule getWeeklySchedule() { return weeklySchedule; }
     public Double getRating() { return rating; }
     public boolean isOpen() { return isOpen; }
     public LocalDateTime getCreatedAt() { return createdAt; }
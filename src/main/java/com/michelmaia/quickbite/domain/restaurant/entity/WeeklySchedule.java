@@ -0,0 +1,190 @@
+package com.michelmaia.quickbite.domain.restaurant.entity;
+
+import com.michelmaia.quickbite.domain.restaurant.exception.InvalidRestaurantDataException;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Domain Value Object - Weekly opening schedule in the restaurant's time zone
+ * Shifts compile into sorted, disjoint minute-of-week intervals (Monday 00:00 is minute 0), so checking whether
+ * the restaurant is open at an instant is a binary search. A day may have several shifts, a shift closing at or
+ * before its opening time runs past midnight, and one running past Sunday midnight wraps around to Monday.
+ */
+public final class WeeklySchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final ZoneId zone;
+    private final int[] starts;
+    private final int[] ends;
+
+    private WeeklySchedule(ZoneId zone, List<Interval> intervals) {
+        this.zone = zone;
+        List<Interval> merged = merge(intervals);
+        this.starts = merged.stream().mapToInt(Interval::start).toArray();
+        this.ends = merged.stream().mapToInt(Interval::end).toArray();
+    }
+
+    /**
+     * Opening hours of one day; closes at or before opens means the shift ends on the next day
+     * (22:00-02:00 runs overnight, 00:00-00:00 is open all day)
+     */
+    public record Shift(DayOfWeek day, LocalTime opens, LocalTime closes) {
+
+        public Shift {
+            if (day == null || opens == null || closes == null) {
+                throw new InvalidRestaurantDataException("Shift day, opening and closing times are required");
+            }
+            if (opens.getSecond() != 0 || opens.getNano() != 0 || closes.getSecond() != 0 || closes.getNano() != 0) {
+                throw new InvalidRestaurantDataException("Shift times must be whole minutes");
+            }
+        }
+    }
+
+    /**
+     * Minutes [start, end) of the week, local to the schedule's time zone
+     */
+    public record Interval(int start, int end) {
+
+        public Interval {
+            if (start < 0 || end > MINUTES_PER_WEEK || start >= end) {
+                throw new InvalidRestaurantDataException("Invalid minute-of-week interval [" + start + ", " + end + ")");
+            }
+        }
+    }
+
+    public static WeeklySchedule of(String timeZone, List<Shift> shifts) {
+        if (shifts == null) {
+            throw new InvalidRestaurantDataException("Shifts are required");
+        }
+        List<Interval> intervals = new ArrayList<>();
+        for (Shift shift : shifts) {
+            int opens = shift.opens().toSecondOfDay() / 60;
+            int length = shift.closes().toSecondOfDay() / 60 - opens;
+            if (length <= 0) {
+                length += MINUTES_PER_DAY;
+            }
+            int start = (shift.day().getValue() - 1) * MINUTES_PER_DAY + opens;
+            int end = start + length;
+            if (end > MINUTES_PER_WEEK) {
+                intervals.add(new Interval(start, MINUTES_PER_WEEK));
+                intervals.add(new Interval(0, end - MINUTES_PER_WEEK));
+            } else {
+                intervals.add(new Interval(start, end));
+            }
+        }
+        return new WeeklySchedule(zone(timeZone), intervals);
+    }
+
+    // Factory method for reconstructing from database
+    public static WeeklySchedule ofIntervals(String timeZone, List<Interval> intervals) {
+        return new WeeklySchedule(zone(timeZone), intervals);
+    }
+
+    public static int minuteOfWeek(ZonedDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + dateTime.getHour() * 60
+                + dateTime.getMinute();
+    }
+
+    public boolean isOpenAt(Instant instant) {
+        int minute = minuteOfWeek(instant.atZone(zone));
+        int index = Arrays.binarySearch(starts, minute);
+        if (index >= 0) {
+            return true;
+        }
+        int previous = -index - 2;
+        return previous >= 0 && minute < ends[previous];
+    }
+
+    public ZoneId getZone() { return zone; }
+
+    public List<Interval> getIntervals() {
+        List<Interval> intervals = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            intervals.add(new Interval(starts[i], ends[i]));
+        }
+        return intervals;
+    }
+
+    /**
+     * The intervals as shifts again: overnight and wrapped intervals become one shift, anything longer
+     * than a day is cut into whole days from its opening time
+     */
+    public List<Shift> getShifts() {
+        List<Shift> shifts = new ArrayList<>();
+        int count = starts.length;
+        boolean wraps = count > 1 && starts[0] == 0 && ends[count - 1] == MINUTES_PER_WEEK;
+        for (int i = wraps ? 1 : 0; i < count; i++) {
+            int start = starts[i];
+            int end = wraps && i == count - 1 ? MINUTES_PER_WEEK + ends[0] : ends[i];
+            for (; end - start > MINUTES_PER_DAY; start += MINUTES_PER_DAY) {
+                shifts.add(shift(start, start));
+            }
+            shifts.add(shift(start, end));
+        }
+        return shifts;
+    }
+
+    private static Shift shift(int start, int end) {
+        return new Shift(
+                DayOfWeek.of(start / MINUTES_PER_DAY % 7 + 1),
+                LocalTime.ofSecondOfDay(start % MINUTES_PER_DAY * 60L),
+                LocalTime.ofSecondOfDay(end % MINUTES_PER_DAY * 60L)
+        );
+    }
+
+    private static List<Interval> merge(List<Interval> intervals) {
+        List<Interval> sorted = intervals.stream().sorted(Comparator.comparingInt(Interval::start)).toList();
+        List<Interval> merged = new ArrayList<>();
+        for (Interval interval : sorted) {
+            Interval last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval.start() <= last.end()) {
+                merged.set(merged.size() - 1, new Interval(last.start(), Math.max(last.end(), interval.end())));
+            } else {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+
+    private static ZoneId zone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            throw new InvalidRestaurantDataException("Time zone is required");
+        }
+        try {
+            return ZoneId.of(timeZone.trim());
+        } catch (DateTimeException e) {
+            throw new InvalidRestaurantDataException("Unknown time zone: " + timeZone);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WeeklySchedule that = (WeeklySchedule) o;
+        return zone.equals(that.zone) && Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zone, Arrays.hashCode(starts), Arrays.hashCode(ends));
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklySchedule{zone=" + zone + ", intervals=" + getIntervals() + '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.michelmaia.quickbite.domain.restaurant.repository;
+
+/**
+ * Value Object: restaurant filters and sort order for listings
+ * Every non-null filter applies (AND). Blank texts count as absent.
+ * openNow keeps restaurants whose weekly schedule is open at query time and that are not closed by hand.
+ * Without an explicit sort, a rating filter without a cuisine lists top rated first, anything else newest first.
+ */
+public record RestaurantCriteria(
+        String cuisine,
+        Double minRating,
+        Boolean isOpen,
+        boolean openNow,
+        String city,
+        String state,
+        String namePrefix,
+        RestaurantSortOrder sort
+) {
+
+    private static final RestaurantCriteria ANY = new RestaurantCriteria(null, null, null, false, null, null, null, null);
+
+    public RestaurantCriteria {
+        cuisine = normalize(cuisine);
+        city = normalize(city);
+        state = normalize(state);
+        namePrefix = normalize(namePrefix);
+        if (minRating != null && (minRating < 0 || minRating > 5)) {
+            throw new IllegalArgumentException("Minimum rating must be between 0 and 5");
+        }
+    }
+
+    public RestaurantCriteria(String cuisine, Double minRating, Boolean isOpen, String city, String state,
+                              String namePrefix, RestaurantSortOrder sort) {
+        this(cuisine, minRating, isOpen, false, city, state, namePrefix, sort);
+    }
+
+    public static RestaurantCriteria any() {
+        return ANY;
+    }
+
+    public static RestaurantCriteria byCuisine(String cuisine) {
+        return new RestaurantCriteria(cuisine, null, null, null, null, null, null);
+    }
+
+    public static RestaurantCriteria byMinRating(Double minRating) {
+        return new RestaurantCriteria(null, minRating, null, null, null, null, null);
+    }
+
+    public RestaurantSortOrder order() {
+        if (sort != null) {
+            return sort;
+        }
+        return minRating != null && cuisine == null ? RestaurantSortOrder.TOP_RATED : RestaurantSortOrder.NEWEST;
+    }
+
+    private static String normalize(String text) {
+        return text == null || text.isBlank() ? null : text.trim();
+    }
+}
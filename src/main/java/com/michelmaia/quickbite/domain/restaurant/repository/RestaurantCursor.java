@@ -0,0 +1,71 @@
+package com.michelmaia.quickbite.domain.restaurant.repository;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Value Object: position of the last restaurant of a keyset page
+ * The next page starts strictly after (key, id) in the given sort order
+ */
+public record RestaurantCursor(RestaurantSortOrder order, String key, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public RestaurantCursor {
+        if (order == null || key == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            switch (order) {
+                case NEWEST -> LocalDateTime.parse(key);
+                case TOP_RATED -> new BigDecimal(key);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // Builds the cursor pointing at the given restaurant
+    public static RestaurantCursor after(RestaurantSortOrder order, Restaurant restaurant) {
+        String key = switch (order) {
+            case NEWEST -> restaurant.getCreatedAt().toString();
+            case TOP_RATED -> BigDecimal.valueOf(restaurant.getRating()).toPlainString();
+        };
+        return new RestaurantCursor(order, key, restaurant.getId());
+    }
+
+    // Opaque, URL-safe representation handed to clients
+    public String encode() {
+        String raw = order.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RestaurantCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new RestaurantCursor(
+                    RestaurantSortOrder.valueOf(parts[0]),
+                    parts[1],
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    public BigDecimal ratingKey() {
+        return new BigDecimal(key);
+    }
+}
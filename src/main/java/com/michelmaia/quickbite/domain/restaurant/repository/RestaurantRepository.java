@@ -1,9 +1,15 @@
 package com.michelmaia.quickbite.domain.restaurant.repository;
 
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.entity.NearbyRestaurant;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Domain Repository Interface
@@ -15,19 +21,32 @@ public interface RestaurantRepository {
 
     Optional<Restaurant> findById(Long id);
 
+    // The committed row, bypassing any cache in front of findById
+    Optional<Restaurant> findCurrentById(Long id);
+
     Optional<Restaurant> findByOwnerId(Long ownerId);
 
-    List<Restaurant> findAll(int page, int size);
+    // Cheap revalidation lookup for conditional requests
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    // Offset pagination over any combination of filters; only hasNext is reported, countByCriteria gives the total
+    PageResult<Restaurant> findByCriteria(RestaurantCriteria criteria, int page, int size);
 
-    List<Restaurant> findByCuisine(String cuisine, int page, int size);
+    // Keyset pagination in criteria.order(): a null cursor returns the first page
+    List<Restaurant> findByCriteriaAfter(RestaurantCriteria criteria, RestaurantCursor cursor, int limit);
 
-    List<Restaurant> findByMinRating(Double minRating, int page, int size);
+    // Restaurants matching the criteria within radiusKm of origin, nearest first; its sort order does not apply
+    List<NearbyRestaurant> findNearby(GeoPoint origin, double radiusKm, RestaurantCriteria criteria, int limit);
 
     long count();
 
-    long countByCuisine(String cuisine);
+    // Folds pending review ratings into each restaurant's running rating, returning the restaurants it changed
+    List<Long> applyPendingRatings();
+
+    // Every restaurant in id order, one at a time, with its menu when withMenus; run inside a unit of work
+    void forEachInCatalog(boolean withMenus, Consumer<CatalogEntry> consumer);
 
-    long countByMinRating(Double minRating);
+    long countByCriteria(RestaurantCriteria criteria);
 
     void delete(Restaurant restaurant);
 
@@ -0,0 +1,23 @@
+package com.michelmaia.quickbite.domain.restaurant.repository;
+
+/**
+ * Sort orders supported by restaurant listings, offset and keyset (cursor) alike
+ * Every order is made total by using the restaurant id as tie-breaker
+ */
+public enum RestaurantSortOrder {
+    NEWEST,
+    TOP_RATED;
+
+    // Case-insensitive lookup for request parameters; null stays null (default order)
+    public static RestaurantSortOrder fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (RestaurantSortOrder order : values()) {
+            if (order.name().equalsIgnoreCase(value.trim())) {
+                return order;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort order: " + value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.michelmaia.quickbite.domain.review.entity;
+
+import com.michelmaia.quickbite.domain.review.exception.InvalidReviewDataException;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain Entity - A customer's rating of a restaurant, at most one per user and restaurant
+ * Reviews are never edited; the restaurant's rating is the running mean of their ratings.
+ */
+public class Review {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    private final Long id;
+    private final Long restaurantId;
+    private final Long userId;
+    private final int rating;
+    private final String comment;
+    private final LocalDateTime createdAt;
+
+    // Private constructor - use factory methods
+    private Review(Long id, Long restaurantId, Long userId, int rating, String comment, LocalDateTime createdAt) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+        this.userId = userId;
+        this.rating = rating;
+        this.comment = comment;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+
+        validate();
+    }
+
+    // Factory method for creating a new review
+    public static Review createNew(Long restaurantId, Long userId, Integer rating, String comment) {
+        if (userId == null) {
+            throw new InvalidReviewDataException("User ID cannot be null");
+        }
+        if (rating == null) {
+            throw new InvalidReviewDataException("Rating is required");
+        }
+        String trimmed = comment != null && !comment.isBlank() ? comment.trim() : null;
+        return new Review(null, restaurantId, userId, rating, trimmed, null);
+    }
+
+    // Factory method for reconstructing from database; userId is null once the author's account is deleted
+    public static Review reconstruct(Long id, Long restaurantId, Long userId, int rating,
+                                     String comment, LocalDateTime createdAt) {
+        return new Review(id, restaurantId, userId, rating, comment, createdAt);
+    }
+
+    // Business rules validation
+    private void validate() {
+        if (restaurantId == null) {
+            throw new InvalidReviewDataException("Restaurant ID cannot be null");
+        }
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new InvalidReviewDataException("Rating must be between " + MIN_RATING + " and " + MAX_RATING);
+        }
+        if (comment != null && comment.length() > 2000) {
+            throw new InvalidReviewDataException("Comment cannot exceed 2000 characters");
+        }
+    }
+
+    public boolean isNew() {
+        return id == null;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getRestaurantId() { return restaurantId; }
+    public Long getUserId() { return userId; }
+    public int getRating() { return rating; }
+    public String getComment() { return comment; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Review review = (Review) o;
+        return Objects.equals(id, review.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Review{" +
+                "id=" + id +
+                ", restaurantId=" + restaurantId +
+                ", userId=" + userId +
+                ", rating=" + rating +
+                '}';
+    }
+}
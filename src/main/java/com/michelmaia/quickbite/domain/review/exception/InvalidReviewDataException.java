@@ -0,0 +1,10 @@
+package com.michelmaia.quickbite.domain.review.exception;
+
+/**
+ * Domain exception for invalid review data
+ */
+public class InvalidReviewDataException extends RuntimeException {
+    public InvalidReviewDataException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.michelmaia.quickbite.domain.review.exception;
+
+/**
+ * Domain exception when the user already reviewed the restaurant
+ */
+public class ReviewAlreadyExistsException extends RuntimeException {
+    public ReviewAlreadyExistsException(String message) {
+        super(message);
+    }
+
+    public ReviewAlreadyExistsException(Long restaurantId) {
+        super("You have already reviewed restaurant with id: " + restaurantId);
+    }
+}
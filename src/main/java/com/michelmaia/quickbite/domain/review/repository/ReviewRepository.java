@@ -0,0 +1,21 @@
+package com.michelmaia.quickbite.domain.review.repository;
+
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.review.entity.Review;
+
+/**
+ * Domain Repository Interface
+ * Defined by the domain, implemented by infrastructure
+ */
+public interface ReviewRepository {
+
+    // Inserts the review and adds its rating to the restaurant's pending rating counters, atomically
+    Review save(Review review);
+
+    boolean existsByRestaurantIdAndUserId(Long restaurantId, Long userId);
+
+    // Newest first
+    PageResult<Review> findByRestaurantId(Long restaurantId, int page, int size, boolean withTotal);
+
+    long countByRestaurantId(Long restaurantId);
+}
@@ -1,8 +1,8 @@
 package com.michelmaia.quickbite.domain.user.repository;
 
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
 import com.michelmaia.quickbite.domain.user.entity.User;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,15 +19,21 @@ public interface UserRepository {
     
     Optional<User> findByEmail(String email);
     
-    List<User> findAll(int page, int size);
+    // Pages only report hasNext; count and countByRole give the totals
+    PageResult<User> findAll(int page, int size);
     
-    List<User> findByRole(Long roleId, int page, int size);
+    PageResult<User> findByRole(Long roleId, int page, int size);
     
     long count();
     
+    long countByRole(Long roleId);
+    
     void delete(User user);
     
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    // Swaps the password hash only while it is still expectedPassword; false when it was changed meanwhile
+    boolean replacePassword(Long id, String expectedPassword, String newPassword);
 }
@@ -0,0 +1,61 @@
+package com.michelmaia.quickbite.infrastructure.config;
+
+import com.michelmaia.quickbite.infrastructure.persistence.common.ExecutorConcurrentReads;
+import com.michelmaia.quickbite.infrastructure.persistence.common.TransactionalUnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration: executor for reads that run concurrently within one request
+ * queries.concurrent.executor is virtual (one virtual thread per read, on Java 21+; a platform pool otherwise),
+ * platform (pool-size threads, at most queue-capacity reads waiting; beyond that the caller runs the read)
+ * or direct (the caller runs the reads one after the other).
+ */
+@Configuration
+public class ConcurrentReadsConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentReadsConfig.class);
+
+    @Bean
+    public ExecutorConcurrentReads concurrentReads(
+            PlatformTransactionManager transactionManager,
+            @Value("${queries.concurrent.executor:virtual}") String executorType,
+            @Value("${queries.concurrent.pool-size:10}") int poolSize,
+            @Value("${queries.concurrent.queue-capacity:0}") int queueCapacity,
+            @Value("${queries.concurrent.timeout:5000}") long timeout) {
+        ExecutorService executor = executor(executorType, poolSize, queueCapacity);
+        // Reads on other threads keep the caller's identity, which replica stickiness is keyed on
+        return new ExecutorConcurrentReads(
+                executor != null ? new DelegatingSecurityContextExecutorService(executor) : null,
+                TransactionalUnitOfWork.withTimeout(transactionManager, Duration.ofMillis(timeout)),
+                Duration.ofMillis(timeout));
+    }
+
+    private static ExecutorService executor(String type, int poolSize, int queueCapacity) {
+        switch (type) {
+            case "direct":
+                return null;
+            case "virtual":
+                try {
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    LOGGER.info("Virtual threads are not available on this runtime; using {} platform threads for concurrent reads",
+                            poolSize);
+                    return ExecutorConcurrentReads.boundedPool(poolSize, queueCapacity);
+                }
+            case "platform":
+                return ExecutorConcurrentReads.boundedPool(poolSize, queueCapacity);
+            default:
+                throw new IllegalArgumentException("Unknown queries.concurrent.executor: " + type);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.michelmaia.quickbite.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Single database: replaces the auto-configured DataSource with the same pool behind a lazy proxy
+ * Use cases open read-only units of work around reads that caches or ETag checks usually answer;
+ * a pooled connection is only borrowed once such a unit runs its first statement.
+ * With datasource.replicas.enabled=true, ReplicaDataSourceConfig does the same in front of the replicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource) {
+        return new LazyConnectionDataSourceProxy(primaryDataSource);
+    }
+}
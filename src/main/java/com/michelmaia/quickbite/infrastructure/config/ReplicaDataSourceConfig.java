@@ -0,0 +1,92 @@
+package com.michelmaia.quickbite.infrastructure.config;
+
+import com.michelmaia.quickbite.infrastructure.persistence.common.TransactionAwareEviction;
+import com.michelmaia.quickbite.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas: replaces the auto-configured DataSource with one routing read-only units of work to replicas
+ * Only active with datasource.replicas.enabled=true; migrations always run against the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replicas.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replicas.max-lag:1000}") long maxLag,
+            @Value("${datasource.replicas.check-interval:1000}") long checkInterval,
+            @Value("${datasource.replicas.stickiness:5000}") long stickiness) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // An unreachable replica must not stall the lag checks
+            replica.setConnectionTimeout(2000);
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+
+        // Cached entries re-read from a replica just after a write are dropped again once it caught up
+        TransactionAwareEviction.repeatAfterReplicaLag(Duration.ofMillis(maxLag + checkInterval));
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                Duration.ofMillis(maxLag), Duration.ofMillis(checkInterval), Duration.ofMillis(stickiness),
+                ReplicaDataSourceConfig::currentUsername, meterRegistry);
+    }
+
+    /**
+     * Connections are only taken from the routing data source at the first statement,
+     * once the transaction manager has marked the transaction read-only or not
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Read-your-writes is tracked per authenticated user; anonymous requests are not sticky
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -1,21 +1,43 @@
 package com.michelmaia.quickbite.infrastructure.config;
 
+import com.michelmaia.quickbite.application.service.ConcurrentReads;
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
 import com.michelmaia.quickbite.application.service.TokenGenerator;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
 import com.michelmaia.quickbite.application.usecase.auth.ChangePasswordUseCase;
 import com.michelmaia.quickbite.application.usecase.auth.LoginUseCase;
+import com.michelmaia.quickbite.application.usecase.auth.PurgeExpiredRefreshTokensUseCase;
+import com.michelmaia.quickbite.application.usecase.auth.RefreshTokenUseCase;
 import com.michelmaia.quickbite.application.usecase.menuitem.*;
 import com.michelmaia.quickbite.application.usecase.restaurant.CreateRestaurantUseCase;
 import com.michelmaia.quickbite.application.usecase.restaurant.GetRestaurantUseCase;
 import com.michelmaia.quickbite.application.usecase.restaurant.ListRestaurantsUseCase;
 import com.michelmaia.quickbite.application.usecase.restaurant.UpdateRestaurantUseCase;
 import com.michelmaia.quickbite.application.usecase.restaurant.DeleteRestaurantUseCase;
+import com.michelmaia.quickbite.application.usecase.restaurant.ExportCatalogUseCase;
+import com.michelmaia.quickbite.application.usecase.restaurant.FindNearbyRestaurantsUseCase;
+import com.michelmaia.quickbite.application.usecase.review.ApplyPendingRatingsUseCase;
+import com.michelmaia.quickbite.application.usecase.review.CreateReviewUseCase;
+import com.michelmaia.quickbite.application.usecase.review.ListReviewsUseCase;
 import com.michelmaia.quickbite.application.usecase.user.*;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
 import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.domain.review.repository.ReviewRepository;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.auth.RefreshTokenPurgeScheduler;
+import com.michelmaia.quickbite.infrastructure.persistence.restaurant.CachingRestaurantRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.restaurant.RestaurantRepositoryAdapter;
+import com.michelmaia.quickbite.infrastructure.persistence.review.PendingRatingsScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
 
 /**
  * Configuration: Wire up use cases with their dependencies
@@ -30,15 +52,43 @@ public class UseCaseConfig {
     public LoginUseCase loginUseCase(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            TokenGenerator tokenGenerator) {
-        return new LoginUseCase(userRepository, passwordEncoder, tokenGenerator);
+            TokenGenerator tokenGenerator,
+            RefreshTokenRepository refreshTokenRepository,
+            UnitOfWork unitOfWork) {
+        return new LoginUseCase(userRepository, passwordEncoder, tokenGenerator, refreshTokenRepository, unitOfWork);
+    }
+    
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenGenerator tokenGenerator,
+            UnitOfWork unitOfWork) {
+        return new RefreshTokenUseCase(userRepository, refreshTokenRepository, tokenGenerator, unitOfWork);
     }
     
     @Bean
     public ChangePasswordUseCase changePasswordUseCase(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
-        return new ChangePasswordUseCase(userRepository, passwordEncoder);
+            PasswordEncoder passwordEncoder,
+            RefreshTokenRepository refreshTokenRepository,
+            UnitOfWork unitOfWork) {
+        return new ChangePasswordUseCase(userRepository, passwordEncoder, refreshTokenRepository, unitOfWork);
+    }
+
+    @Bean
+    public PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase(
+            RefreshTokenRepository refreshTokenRepository,
+            UnitOfWork unitOfWork,
+            @Value("${security.config.refresh-retention:604800000}") long retention) {
+        return new PurgeExpiredRefreshTokensUseCase(refreshTokenRepository, unitOfWork, Duration.ofMillis(retention));
+    }
+
+    @Bean
+    public RefreshTokenPurgeScheduler refreshTokenPurgeScheduler(
+            PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase,
+            @Value("${security.config.refresh-purge-interval:3600000}") long interval) {
+        return new RefreshTokenPurgeScheduler(purgeExpiredRefreshTokensUseCase, Duration.ofMillis(interval));
     }
     
     // ========== User Management Use Cases ==========
@@ -46,37 +96,60 @@ public class UseCaseConfig {
     @Bean
     public RegisterUserUseCase registerUserUseCase(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
-        return new RegisterUserUseCase(userRepository, passwordEncoder);
+            PasswordEncoder passwordEncoder,
+            UnitOfWork unitOfWork) {
+        return new RegisterUserUseCase(userRepository, passwordEncoder, unitOfWork);
     }
     
     @Bean
     public CreateUserUseCase createUserUseCase(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
-        return new CreateUserUseCase(userRepository, passwordEncoder);
+            PasswordEncoder passwordEncoder,
+            UnitOfWork unitOfWork) {
+        return new CreateUserUseCase(userRepository, passwordEncoder, unitOfWork);
     }
     
     @Bean
-    public GetUserUseCase getUserUseCase(UserRepository userRepository) {
-        return new GetUserUseCase(userRepository);
+    public GetUserUseCase getUserUseCase(UserRepository userRepository, UnitOfWork unitOfWork) {
+        return new GetUserUseCase(userRepository, unitOfWork);
     }
     
     @Bean
-    public ListUsersUseCase listUsersUseCase(UserRepository userRepository) {
-        return new ListUsersUseCase(userRepository);
+    public ListUsersUseCase listUsersUseCase(
+            UserRepository userRepository,
+            UnitOfWork unitOfWork,
+            ConcurrentReads concurrentReads) {
+        return new ListUsersUseCase(userRepository, unitOfWork, concurrentReads);
     }
     
     @Bean
     public UpdateUserUseCase updateUserUseCase(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
-        return new UpdateUserUseCase(userRepository, passwordEncoder);
+            PasswordEncoder passwordEncoder,
+            UnitOfWork unitOfWork) {
+        return new UpdateUserUseCase(userRepository, passwordEncoder, unitOfWork);
     }
     
     @Bean
-    public DeleteUserUseCase deleteUserUseCase(UserRepository userRepository) {
-        return new DeleteUserUseCase(userRepository);
+    public DeleteUserUseCase deleteUserUseCase(UserRepository userRepository, UnitOfWork unitOfWork) {
+        return new DeleteUserUseCase(userRepository, unitOfWork);
+    }
+
+    // ========== Repository Decorators ==========
+
+    /**
+     * Use cases receive the cached repository when enabled; the JDBC adapter stays the delegate
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.restaurants.enabled", havingValue = "true", matchIfMissing = true)
+    public RestaurantRepository cachingRestaurantRepository(
+            RestaurantRepositoryAdapter restaurantRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${cache.restaurants.maximum-size:10000}") long maximumSize,
+            @Value("${cache.restaurants.ttl:300000}") long ttl) {
+        return new CachingRestaurantRepository(
+                restaurantRepositoryAdapter, maximumSize, Duration.ofMillis(ttl), meterRegistry);
     }
 
     // ========== Restaurant Use Cases ==========
@@ -84,32 +157,88 @@ public class UseCaseConfig {
     @Bean
     public CreateRestaurantUseCase createRestaurantUseCase(
             RestaurantRepository restaurantRepository,
-            UserRepository userRepository) {
-        return new CreateRestaurantUseCase(restaurantRepository, userRepository);
+            UserRepository userRepository,
+            UnitOfWork unitOfWork) {
+        return new CreateRestaurantUseCase(restaurantRepository, userRepository, unitOfWork);
+    }
+
+    @Bean
+    public ExportCatalogUseCase exportCatalogUseCase(
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new ExportCatalogUseCase(restaurantRepository, unitOfWork);
     }
 
     @Bean
     public GetRestaurantUseCase getRestaurantUseCase(
-            RestaurantRepository restaurantRepository) {
-        return new GetRestaurantUseCase(restaurantRepository);
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new GetRestaurantUseCase(restaurantRepository, unitOfWork);
     }
 
     @Bean
     public ListRestaurantsUseCase listRestaurantsUseCase(
-            RestaurantRepository restaurantRepository) {
-        return new ListRestaurantsUseCase(restaurantRepository);
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork,
+            ConcurrentReads concurrentReads) {
+        return new ListRestaurantsUseCase(restaurantRepository, unitOfWork, concurrentReads);
+    }
+
+    @Bean
+    public FindNearbyRestaurantsUseCase findNearbyRestaurantsUseCase(
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new FindNearbyRestaurantsUseCase(restaurantRepository, unitOfWork);
     }
 
     @Bean
     public UpdateRestaurantUseCase updateRestaurantUseCase(
-            RestaurantRepository restaurantRepository) {
-        return new UpdateRestaurantUseCase(restaurantRepository);
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new UpdateRestaurantUseCase(restaurantRepository, unitOfWork);
     }
 
     @Bean
     public DeleteRestaurantUseCase deleteRestaurantUseCase(
-            RestaurantRepository restaurantRepository) {
-        return new DeleteRestaurantUseCase(restaurantRepository);
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new DeleteRestaurantUseCase(restaurantRepository, unitOfWork);
+    }
+
+    // ========== Review Use Cases ==========
+
+    @Bean
+    public CreateReviewUseCase createReviewUseCase(
+            ReviewRepository reviewRepository,
+            RestaurantRepository restaurantRepository,
+            UserRepository userRepository,
+            UnitOfWork unitOfWork) {
+        return new CreateReviewUseCase(reviewRepository, restaurantRepository, userRepository, unitOfWork);
+    }
+
+    @Bean
+    public ListReviewsUseCase listReviewsUseCase(
+            ReviewRepository reviewRepository,
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new ListReviewsUseCase(reviewRepository, restaurantRepository, unitOfWork);
+    }
+
+    @Bean
+    public ApplyPendingRatingsUseCase applyPendingRatingsUseCase(
+            RestaurantRepository restaurantRepository,
+            UnitOfWork unitOfWork) {
+        return new ApplyPendingRatingsUseCase(restaurantRepository, unitOfWork);
+    }
+
+    /**
+     * Restaurant ratings trail new reviews by at most one interval
+     */
+    @Bean
+    public PendingRatingsScheduler pendingRatingsScheduler(
+            ApplyPendingRatingsUseCase applyPendingRatingsUseCase,
+            @Value("${reviews.rating-rollup-interval:5000}") long interval) {
+        return new PendingRatingsScheduler(applyPendingRatingsUseCase, Duration.ofMillis(interval));
     }
 
     // ========== Menu Item Use Cases ==========
@@ -117,8 +246,19 @@ public class UseCaseConfig {
     @Bean
     public CreateMenuItemUseCase createMenuItemUseCase(
             MenuItemRepository menuItemRepository,
-            RestaurantRepository restaurantRepository) {
-        return new CreateMenuItemUseCase(menuItemRepository, restaurantRepository);
+            RestaurantRepository restaurantRepository,
+            MenuSnapshotCache menuSnapshotCache,
+            UnitOfWork unitOfWork) {
+        return new CreateMenuItemUseCase(menuItemRepository, restaurantRepository, menuSnapshotCache, unitOfWork);
+    }
+
+    @Bean
+    public ImportMenuItemsUseCase importMenuItemsUseCase(
+            MenuItemRepository menuItemRepository,
+            RestaurantRepository restaurantRepository,
+            MenuSnapshotCache menuSnapshotCache,
+            UnitOfWork unitOfWork) {
+        return new ImportMenuItemsUseCase(menuItemRepository, restaurantRepository, menuSnapshotCache, unitOfWork);
     }
 
     @Bean
@@ -129,19 +269,36 @@ public class UseCaseConfig {
 
     @Bean
     public ListMenuItemsUseCase listMenuItemsUseCase(
+            MenuSnapshotCache menuSnapshotCache,
+            UnitOfWork unitOfWork) {
+        return new ListMenuItemsUseCase(menuSnapshotCache, unitOfWork);
+    }
+
+    @Bean
+    public SearchMenuItemsUseCase searchMenuItemsUseCase(
             MenuItemRepository menuItemRepository) {
-        return new ListMenuItemsUseCase(menuItemRepository);
+        return new SearchMenuItemsUseCase(menuItemRepository);
     }
 
     @Bean
-    public UpdateMenuItemUseCase updateMenuItemUseCase(
+    public SearchDishesUseCase searchDishesUseCase(
             MenuItemRepository menuItemRepository) {
-        return new UpdateMenuItemUseCase(menuItemRepository);
+        return new SearchDishesUseCase(menuItemRepository);
+    }
+
+    @Bean
+    public UpdateMenuItemUseCase updateMenuItemUseCase(
+            MenuItemRepository menuItemRepository,
+            MenuSnapshotCache menuSnapshotCache,
+            UnitOfWork unitOfWork) {
+        return new UpdateMenuItemUseCase(menuItemRepository, menuSnapshotCache, unitOfWork);
     }
 
     @Bean
     public DeleteMenuItemUseCase deleteMenuItemUseCase(
-            MenuItemRepository menuItemRepository) {
-        return new DeleteMenuItemUseCase(menuItemRepository);
+            MenuItemRepository menuItemRepository,
+            MenuSnapshotCache menuSnapshotCache,
+            UnitOfWork unitOfWork) {
+        return new DeleteMenuItemUseCase(menuItemRepository, menuSnapshotCache, unitOfWork);
     }
 }
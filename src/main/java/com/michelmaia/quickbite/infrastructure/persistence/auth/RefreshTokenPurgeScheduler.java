@@ -0,0 +1,49 @@
+package com.michelmaia.quickbite.infrastructure.persistence.auth;
+
+import com.michelmaia.quickbite.application.usecase.auth.PurgeExpiredRefreshTokensUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges expired refresh tokens on a fixed delay
+ * Every instance runs it; concurrent purges only delete the same rows once.
+ */
+public final class RefreshTokenPurgeScheduler implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenPurgeScheduler.class);
+
+    private final PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase;
+    private final ScheduledExecutorService scheduler;
+
+    public RefreshTokenPurgeScheduler(PurgeExpiredRefreshTokensUseCase purgeExpiredRefreshTokensUseCase,
+                                      Duration interval) {
+        this.purgeExpiredRefreshTokensUseCase = purgeExpiredRefreshTokensUseCase;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purge, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void purge() {
+        try {
+            int deleted = purgeExpiredRefreshTokensUseCase.execute();
+            if (deleted > 0) {
+                LOGGER.debug("Purged {} expired refresh tokens", deleted);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Purging expired refresh tokens failed; retrying on the next run", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,113 @@
+package com.michelmaia.quickbite.infrastructure.persistence.auth;
+
+import com.michelmaia.quickbite.domain.auth.entity.RefreshToken;
+import com.michelmaia.quickbite.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Infrastructure Adapter: Implements RefreshTokenRepository using JDBC
+ */
+@Repository
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    // Two concurrent refreshes with one token both reach this row; only the first one's update matches
+    private static final String CONSUME = """
+            UPDATE refresh_tokens
+            SET used_at = CURRENT_TIMESTAMP
+            WHERE token_hash = :tokenHash
+              AND used_at IS NULL
+              AND revoked_at IS NULL
+              AND expires_at > CURRENT_TIMESTAMP
+            RETURNING user_id, token_hash, family_id, expires_at
+            """;
+
+    // Bounded batches keep each purge transaction short on a table every refresh writes to
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expires_at < CURRENT_TIMESTAMP - make_interval(secs => :retentionSeconds)
+                LIMIT :limit
+            )
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    public RefreshTokenRepositoryAdapter(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        jdbcClient.sql("""
+                INSERT INTO refresh_tokens (user_id, token_hash, family_id, expires_at)
+                VALUES (:userId, :tokenHash, :familyId, :expiresAt)
+            """)
+                .param("userId", refreshToken.userId())
+                .param("tokenHash", refreshToken.tokenHash())
+                .param("familyId", refreshToken.familyId())
+                .param("expiresAt", refreshToken.expiresAt())
+                .update();
+    }
+
+    @Override
+    public Optional<RefreshToken> consume(String tokenHash) {
+        return jdbcClient.sql(CONSUME)
+                .param("tokenHash", tokenHash)
+                .query(RefreshTokenRepositoryAdapter::mapRow)
+                .optional();
+    }
+
+    @Override
+    public Optional<UUID> findFamilyIdIfUsed(String tokenHash) {
+        return jdbcClient.sql("SELECT family_id FROM refresh_tokens WHERE token_hash = :tokenHash AND used_at IS NOT NULL")
+                .param("tokenHash", tokenHash)
+                .query(UUID.class)
+                .optional();
+    }
+
+    @Override
+    public int revokeFamily(UUID familyId) {
+        return jdbcClient.sql("""
+                UPDATE refresh_tokens SET revoked_at = CURRENT_TIMESTAMP
+                WHERE family_id = :familyId AND revoked_at IS NULL
+            """)
+                .param("familyId", familyId)
+                .update();
+    }
+
+    @Override
+    public int revokeAllByUserId(Long userId) {
+        return jdbcClient.sql("""
+                UPDATE refresh_tokens SET revoked_at = CURRENT_TIMESTAMP
+                WHERE user_id = :userId AND revoked_at IS NULL
+            """)
+                .param("userId", userId)
+                .update();
+    }
+
+    @Override
+    public int deleteExpired(Duration retention, int limit) {
+        return jdbcClient.sql(DELETE_EXPIRED)
+                .param("retentionSeconds", retention.toSeconds())
+                .param("limit", limit)
+                .update();
+    }
+
+    private static RefreshToken mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new RefreshToken(
+                rs.getLong("user_id"),
+                rs.getString("token_hash"),
+                rs.getObject("family_id", UUID.class),
+                rs.getObject("expires_at", LocalDateTime.class)
+        );
+    }
+}
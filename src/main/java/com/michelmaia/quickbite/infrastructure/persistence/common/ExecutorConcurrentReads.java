@@ -0,0 +1,105 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+import com.michelmaia.quickbite.application.service.ConcurrentReads;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Infrastructure Adapter: ConcurrentReads running the second read on an executor while the caller runs the first
+ * The caller holds no connection while it waits, so the pool only needs one connection per running read.
+ * The unit of work should carry the same timeout, so the database also cancels a statement running past it;
+ * without an executor both reads run on the caller, one after the other.
+ */
+public class ExecutorConcurrentReads implements ConcurrentReads, AutoCloseable {
+
+    private final ExecutorService executor;
+    private final UnitOfWork unitOfWork;
+    private final Duration timeout;
+
+    public ExecutorConcurrentReads(ExecutorService executor, UnitOfWork unitOfWork, Duration timeout) {
+        this.executor = executor;
+        this.unitOfWork = unitOfWork;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Fixed pool of daemon threads that never queues more than queueCapacity reads (0 hands off directly);
+     * past that the caller runs the read itself, so a saturated pool degrades to sequential reads instead of
+     * leaving them to wait out the timeout
+     */
+    public static ExecutorService boundedPool(int poolSize, int queueCapacity) {
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        AtomicInteger threads = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "concurrent-reads-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public <A, B, R> R both(Supplier<A> first, Supplier<B> second,
+                            BiFunction<? super A, ? super B, ? extends R> combine) {
+        if (executor == null) {
+            return combine.apply(unitOfWork.readOnly(first), unitOfWork.readOnly(second));
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<B> other = executor.submit(() -> unitOfWork.readOnly(second));
+        A firstResult;
+        try {
+            firstResult = unitOfWork.readOnly(first);
+        } catch (RuntimeException | Error e) {
+            other.cancel(true);
+            throw e;
+        }
+        return combine.apply(firstResult, await(other, deadline));
+    }
+
+    private <B> B await(Future<B> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new QueryTimeoutException("Concurrent read did not finish within " + timeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a concurrent read");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
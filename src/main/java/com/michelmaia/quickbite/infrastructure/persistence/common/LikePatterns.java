@@ -0,0 +1,24 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+/**
+ * LIKE/ILIKE patterns built from user text: its own wildcards (%, _) and the escape character are taken literally
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String contains(String text) {
+        return "%" + escape(text) + "%";
+    }
+
+    public static String startsWith(String text) {
+        return escape(text) + "%";
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,66 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs an offset-paginated statement and returns the page, with its total in the same round trip when asked.
+ * Statements select {@link #totalColumn(boolean)} and end with {@code LIMIT :limit OFFSET :offset}.
+ * Listings that count concurrently (restaurants, users) fetch pages without a total and count separately.
+ */
+public final class PagedQuery {
+
+    private static final String TOTAL_COLUMN = "total_count";
+
+    private PagedQuery() {
+    }
+
+    /**
+     * Select-list suffix carrying the total: the window is evaluated before LIMIT,
+     * so every returned row holds the size of the whole filtered set
+     */
+    public static String totalColumn(boolean withTotal) {
+        return withTotal ? ", COUNT(*) OVER() AS " + TOTAL_COLUMN : "";
+    }
+
+    /**
+     * Page without a total: one extra row is enough to tell whether another page exists
+     */
+    public static <T> PageResult<T> fetch(JdbcClient.StatementSpec statement, RowMapper<T> mapper, int page, int size) {
+        return fetch(statement, mapper, page, size, false, null);
+    }
+
+    /**
+     * @param count only used when the requested page is past the end, since an empty
+     *              result carries no window value
+     */
+    public static <T> PageResult<T> fetch(JdbcClient.StatementSpec statement, RowMapper<T> mapper,
+                                          int page, int size, boolean withTotal, LongSupplier count) {
+        // Without a total, one extra row is enough to tell whether another page exists
+        int limit = withTotal ? size : size + 1;
+        long[] total = {0};
+
+        List<T> rows = statement
+                .param("limit", limit)
+                .param("offset", (long) page * size)
+                .query((rs, rowNum) -> {
+                    if (withTotal && rowNum == 0) {
+                        total[0] = rs.getLong(TOTAL_COLUMN);
+                    }
+                    return mapper.mapRow(rs, rowNum);
+                })
+                .list();
+
+        if (!withTotal) {
+            boolean hasNext = rows.size() > size;
+            return new PageResult<>(hasNext ? rows.subList(0, size) : rows, null, hasNext);
+        }
+
+        long totalElements = !rows.isEmpty() ? total[0] : page == 0 ? 0 : count.getAsLong();
+        return new PageResult<>(rows, totalElements, (long) (page + 1) * size < totalElements);
+    }
+}
@@ -0,0 +1,52 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache eviction that also holds inside a transaction: the entry is dropped right away and again
+ * once the transaction completes, so a reader that re-cached the old committed state (or this
+ * transaction's rolled back state) in between cannot keep it.
+ * With read replicas, a reader may still re-cache the old state from a replica that has not replayed
+ * the write yet, so the entry is dropped a last time once the tolerated replica lag has passed.
+ */
+public final class TransactionAwareEviction {
+
+    private static volatile Duration replicaLag = Duration.ZERO;
+
+    private TransactionAwareEviction() {
+    }
+
+    /**
+     * Longest time a replica serving reads may be behind the primary; zero without replicas
+     */
+    public static void repeatAfterReplicaLag(Duration lag) {
+        replicaLag = lag;
+    }
+
+    public static void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                    evictAfterReplicaLag(eviction);
+                }
+            });
+        } else {
+            evictAfterReplicaLag(eviction);
+        }
+    }
+
+    private static void evictAfterReplicaLag(Runnable eviction) {
+        Duration lag = replicaLag;
+        if (!lag.isZero()) {
+            CompletableFuture.delayedExecutor(lag.toMillis(), TimeUnit.MILLISECONDS).execute(eviction);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Infrastructure Adapter: UnitOfWork backed by the JDBC transaction manager
+ * JdbcClient calls made inside the work join the transaction and reuse its connection
+ */
+@Component
+public class TransactionalUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public TransactionalUnitOfWork(PlatformTransactionManager transactionManager) {
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Units whose statements are cancelled once the transaction has run for the timeout (rounded up to seconds)
+     */
+    public static TransactionalUnitOfWork withTimeout(PlatformTransactionManager transactionManager, Duration timeout) {
+        TransactionalUnitOfWork unitOfWork = new TransactionalUnitOfWork(transactionManager);
+        int seconds = (int) Math.max(1, (timeout.toMillis() + 999) / 1000);
+        unitOfWork.writeTemplate.setTimeout(seconds);
+        unitOfWork.readOnlyTemplate.setTimeout(seconds);
+        return unitOfWork;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return writeTemplate.execute(status -> work.get());
+    }
+
+    @Override
+    public void run(Runnable work) {
+        writeTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    @Override
+    public <T> T readOnly(Supplier<T> work) {
+        return readOnlyTemplate.execute(status -> work.get());
+    }
+}
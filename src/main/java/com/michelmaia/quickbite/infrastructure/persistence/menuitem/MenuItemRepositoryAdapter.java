@@ -1,10 +1,17 @@
 package com.michelmaia.quickbite.infrastructure.persistence.menuitem;
 
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.menuitem.repository.DishCursor;
 import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.LikePatterns;
+import com.michelmaia.quickbite.infrastructure.persistence.common.PagedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,11 +21,50 @@ import java.util.Optional;
 @Repository
 public class MenuItemRepositoryAdapter implements MenuItemRepository {
 
+    /*
+     * A dish matches on stemmed words of its name or description ("burgers" finds "Burger"),
+     * on a close word in its name ("piza" finds "Pizza") or on a plain substring of its name.
+     * Both GIN indexes from V6 can serve these predicates, combined with a bitmap OR.
+     */
+    private static final String SEARCH_FILTER = """
+
+                FROM menu_items m, websearch_to_tsquery('english', :text) AS q
+                WHERE m.restaurant_id = :restaurantId
+                  AND (m.search_vector @@ q
+                       OR :text <% m.name
+                       OR m.name ILIKE :pattern)
+            """;
+
+    // Same matching as SEARCH_FILTER minus the substring fallback, which no index serves for short texts
+    // across every restaurant; the literal is_available lets the planner pick the V7 partial indexes
+    private static final String DISH_MATCHES = """
+                SELECT m.id, m.restaurant_id, m.name, m.description, m.price, m.image_url,
+                       m.is_available, m.created_at, m.updated_at,
+                       r.name AS restaurant_name, r.cuisine AS restaurant_cuisine, r.rating AS restaurant_rating,
+                       ts_rank(m.search_vector, q) + word_similarity(:text, m.name) AS score
+                FROM menu_items m
+                CROSS JOIN websearch_to_tsquery('english', :text) AS q
+                JOIN restaurants r ON r.id = m.restaurant_id
+                WHERE m.is_available
+                  AND r.is_open
+                  AND (m.search_vector @@ q OR :text <% m.name)
+            """;
+
+    // With reWriteBatchedInserts the driver sends each batch as a few multi-row INSERTs
+    private static final String INSERT_BATCH = """
+                INSERT INTO menu_items (id, restaurant_id, name, description, price, image_url,
+                                        is_available, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int BATCH_SIZE = 1000;
+
     private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
     private final MenuItemJdbcMapper mapper;
 
-    public MenuItemRepositoryAdapter(JdbcClient jdbcClient, MenuItemJdbcMapper mapper) {
+    public MenuItemRepositoryAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate, MenuItemJdbcMapper mapper) {
         this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
         this.mapper = mapper;
     }
 
@@ -31,11 +77,57 @@ public class MenuItemRepositoryAdapter implements MenuItemRepository {
         }
     }
 
+    @Override
+    public List<MenuItem> insertAll(List<MenuItem> menuItems) {
+        if (menuItems.isEmpty()) {
+            return List.of();
+        }
+
+        // Ids are reserved up front in one round trip, so the batch needs no generated keys read back
+        List<Long> ids = jdbcClient.sql("""
+                SELECT nextval(pg_get_serial_sequence('menu_items', 'id'))
+                FROM generate_series(1, :count)
+            """)
+                .param("count", menuItems.size())
+                .query(Long.class)
+                .list();
+
+        List<MenuItem> inserted = new ArrayList<>(menuItems.size());
+        for (int i = 0; i < menuItems.size(); i++) {
+            MenuItem menuItem = menuItems.get(i);
+            inserted.add(MenuItem.reconstruct(
+                    ids.get(i),
+                    menuItem.getRestaurantId(),
+                    menuItem.getName(),
+                    menuItem.getDescription(),
+                    menuItem.getPrice(),
+                    menuItem.getImageUrl(),
+                    menuItem.isAvailable(),
+                    menuItem.getCreatedAt(),
+                    menuItem.getUpdatedAt()
+            ));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BATCH, inserted, BATCH_SIZE, (ps, menuItem) -> {
+            ps.setLong(1, menuItem.getId());
+            ps.setLong(2, menuItem.getRestaurantId());
+            ps.setString(3, menuItem.getName());
+            ps.setString(4, menuItem.getDescription());
+            ps.setDouble(5, menuItem.getPrice());
+            ps.setString(6, menuItem.getImageUrl());
+            ps.setBoolean(7, menuItem.isAvailable());
+            ps.setObject(8, menuItem.getCreatedAt());
+            ps.setObject(9, menuItem.getUpdatedAt());
+        });
+        return inserted;
+    }
+
     private MenuItem insert(MenuItem menuItem) {
-        Long menuItemId = jdbcClient.sql("""
+        return jdbcClient.sql("""
                 INSERT INTO menu_items (restaurant_id, name, description, price, image_url, is_available)
                 VALUES (:restaurantId, :name, :description, :price, :imageUrl, :isAvailable)
-                RETURNING id
+                RETURNING id, restaurant_id, name, description, price, image_url,
+                          is_available, created_at, updated_at
             """)
                 .param("restaurantId", menuItem.getRestaurantId())
                 .param("name", menuItem.getName())
@@ -43,19 +135,19 @@ public class MenuItemRepositoryAdapter implements MenuItemRepository {
                 .param("price", menuItem.getPrice())
                 .param("imageUrl", menuItem.getImageUrl())
                 .param("isAvailable", menuItem.isAvailable())
-                .query(Long.class)
+                .query(mapper::mapRow)
                 .single();
-
-        return findById(menuItemId).orElseThrow();
     }
 
     private MenuItem update(MenuItem menuItem) {
-        jdbcClient.sql("""
+        return jdbcClient.sql("""
                 UPDATE menu_items
                 SET name = :name, description = :description, price = :price,
                     image_url = :imageUrl, is_available = :isAvailable, 
                     updated_at = CURRENT_TIMESTAMP
                 WHERE id = :id
+                RETURNING id, restaurant_id, name, description, price, image_url,
+                          is_available, created_at, updated_at
             """)
                 .param("name", menuItem.getName())
                 .param("description", menuItem.getDescription())
@@ -63,9 +155,9 @@ public class MenuItemRepositoryAdapter implements MenuItemRepository {
                 .param("imageUrl", menuItem.getImageUrl())
                 .param("isAvailable", menuItem.isAvailable())
                 .param("id", menuItem.getId())
-                .update();
-
-        return findById(menuItem.getId()).orElseThrow();
+                .query(mapper::mapRow)
+                .optional()
+                .orElseThrow();
     }
 
     @Override
@@ -116,16 +208,66 @@ public class MenuItemRepositoryAdapter implements MenuItemRepository {
                 SELECT id, restaurant_id, name, description, price, image_url, 
                        is_available, created_at, updated_at
                 FROM menu_items
-                WHERE restaurant_id = :restaurantId 
-                  AND LOWER(name) LIKE LOWER(:name)
+                WHERE restaurant_id = :restaurantId
+                  AND name ILIKE :name
                 ORDER BY name
             """)
                 .param("restaurantId", restaurantId)
-                .param("name", "%" + name + "%")
+                .param("name", LikePatterns.contains(name))
                 .query(mapper::mapRow)
                 .list();
     }
 
+    @Override
+    public PageResult<MenuItem> searchByRestaurantId(Long restaurantId, String text, int page, int size,
+                                                     boolean withTotal) {
+        String sql = """
+                SELECT m.id, m.restaurant_id, m.name, m.description, m.price, m.image_url,
+                       m.is_available, m.created_at, m.updated_at""" + PagedQuery.totalColumn(withTotal) + SEARCH_FILTER + """
+                ORDER BY ts_rank(m.search_vector, q) + word_similarity(:text, m.name) DESC, m.id
+                LIMIT :limit OFFSET :offset
+            """;
+        return PagedQuery.fetch(searchParams(jdbcClient.sql(sql), restaurantId, text),
+                mapper::mapRow, page, size, withTotal, () -> countSearchByRestaurantId(restaurantId, text));
+    }
+
+    @Override
+    public List<DishMatch> searchDishes(String text, DishCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (\n")
+                .append(DISH_MATCHES)
+                .append(") matches\n");
+        if (cursor != null) {
+            sql.append("WHERE (score, id) < (CAST(:cursorScore AS REAL), :cursorId)\n");
+        }
+        sql.append("ORDER BY score DESC, id DESC\n")
+                .append("LIMIT :limit");
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(sql.toString())
+                .param("text", text)
+                .param("limit", limit);
+        if (cursor != null) {
+            statement = statement
+                    .param("cursorScore", cursor.score())
+                    .param("cursorId", cursor.id());
+        }
+        return statement
+                .query((rs, rowNum) -> new DishMatch(
+                        mapper.mapRow(rs, rowNum),
+                        rs.getString("restaurant_name"),
+                        rs.getString("restaurant_cuisine"),
+                        rs.getDouble("restaurant_rating"),
+                        rs.getFloat("score")
+                ))
+                .list();
+    }
+
+    @Override
+    public long countSearchByRestaurantId(Long restaurantId, String text) {
+        return searchParams(jdbcClient.sql("SELECT COUNT(*)" + SEARCH_FILTER), restaurantId, text)
+                .query(Long.class)
+                .single();
+    }
+
     @Override
     public void delete(MenuItem menuItem) {
         jdbcClient.sql("DELETE FROM menu_items WHERE id = :id")
@@ -148,4 +290,33 @@ public class MenuItemRepositoryAdapter implements MenuItemRepository {
                 .query(Long.class)
                 .single();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Long> findMenuVersion(Long restaurantId) {
+        return jdbcClient.sql("SELECT menu_version FROM restaurants WHERE id = :restaurantId")
+                .param("restaurantId", restaurantId)
+                .query(Long.class)
+                .optional();
+    }
+
+    @Override
+    public long incrementMenuVersion(Long restaurantId) {
+        return jdbcClient.sql("""
+                UPDATE restaurants
+                SET menu_version = nextval('menu_version_seq')
+                WHERE id = :restaurantId
+                RETURNING menu_version
+            """)
+                .param("restaurantId", restaurantId)
+                .query(Long.class)
+                .optional()
+                .orElse(0L);
+    }
+
+    private JdbcClient.StatementSpec searchParams(JdbcClient.StatementSpec statement, Long restaurantId, String text) {
+        return statement
+                .param("restaurantId", restaurantId)
+                .param("text", text)
+                .param("pattern", LikePatterns.contains(text));
+    }
+}
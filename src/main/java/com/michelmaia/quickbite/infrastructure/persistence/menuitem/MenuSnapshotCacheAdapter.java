@@ -0,0 +1,95 @@
+package com.michelmaia.quickbite.infrastructure.persistence.menuitem;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.michelmaia.quickbite.application.service.MenuSnapshotCache;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuSnapshot;
+import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.TransactionAwareEviction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Infrastructure Adapter: Caffeine-backed menu snapshots tagged with restaurants.menu_version.
+ * Local writes evict immediately; writes made by other instances are picked up by the
+ * periodic refresh, which only reloads the items when the stored version has moved.
+ */
+@Component
+public class MenuSnapshotCacheAdapter implements MenuSnapshotCache {
+
+    public static final String CACHE_NAME = "menus";
+
+    private final MenuItemRepository menuItemRepository;
+    private final boolean enabled;
+    private final LoadingCache<Long, MenuSnapshot> cache;
+
+    public MenuSnapshotCacheAdapter(MenuItemRepository menuItemRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${cache.menus.enabled:true}") boolean enabled,
+                                    @Value("${cache.menus.maximum-size:5000}") long maximumSize,
+                                    @Value("${cache.menus.refresh-after:30000}") long refreshAfter,
+                                    @Value("${cache.menus.ttl:600000}") long ttl) {
+        this.menuItemRepository = menuItemRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfter))
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build(new VersionedLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public MenuSnapshot get(Long restaurantId) {
+        MenuSnapshot snapshot = enabled ? cache.get(restaurantId) : load(restaurantId);
+        return snapshot != null ? snapshot : MenuSnapshot.empty(restaurantId);
+    }
+
+    @Override
+    public long version(Long restaurantId) {
+        // Uncached, this is a single primary key lookup instead of the whole menu
+        return enabled ? get(restaurantId).getVersion() : menuItemRepository.findMenuVersion(restaurantId).orElse(0L);
+    }
+
+    @Override
+    public void evict(Long restaurantId) {
+        TransactionAwareEviction.evict(() -> cache.invalidate(restaurantId));
+    }
+
+    // Unknown restaurants return null so they are never cached
+    private MenuSnapshot load(Long restaurantId) {
+        // Read the version first: a concurrent write can only make the snapshot look older, never newer
+        Optional<Long> version = menuItemRepository.findMenuVersion(restaurantId);
+        return version
+                .map(v -> new MenuSnapshot(restaurantId, v, menuItemRepository.findByRestaurantId(restaurantId)))
+                .orElse(null);
+    }
+
+    private class VersionedLoader implements CacheLoader<Long, MenuSnapshot> {
+
+        @Override
+        public MenuSnapshot load(Long restaurantId) {
+            return MenuSnapshotCacheAdapter.this.load(restaurantId);
+        }
+
+        @Override
+        public MenuSnapshot reload(Long restaurantId, MenuSnapshot oldValue) {
+            Optional<Long> version = menuItemRepository.findMenuVersion(restaurantId);
+            if (version.isEmpty()) {
+                return null;
+            }
+            if (version.get() == oldValue.getVersion()) {
+                return oldValue;
+            }
+            return load(restaurantId);
+        }
+    }
+}
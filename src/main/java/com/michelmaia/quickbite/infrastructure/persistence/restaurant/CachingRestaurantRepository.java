@@ -0,0 +1,152 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.entity.NearbyRestaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCursor;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.TransactionAwareEviction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Infrastructure Decorator: read-through cache for RestaurantRepository.findById outside write units of work.
+ * Restaurants are mutable, so callers always receive their own copy of the cached entry.
+ * Every other query goes straight to the delegate, including the existence and updated_at checks behind
+ * conditional requests: an entry may be up to ttl old when another instance wrote the restaurant, and
+ * ETags must not be. Unknown ids are not cached, so a restaurant created elsewhere is found at once.
+ */
+public class CachingRestaurantRepository implements RestaurantRepository {
+
+    public static final String CACHE_NAME = "restaurants";
+
+    private final RestaurantRepository delegate;
+    private final Cache<Long, Restaurant> cache;
+
+    public CachingRestaurantRepository(RestaurantRepository delegate, long maximumSize, Duration ttl,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        // Caffeine's size-based eviction is W-TinyLFU: popular restaurants survive scans of the long tail
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Restaurant save(Restaurant restaurant) {
+        Restaurant saved = delegate.save(restaurant);
+        TransactionAwareEviction.evict(() -> cache.invalidate(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public Optional<Restaurant> findById(Long id) {
+        // Writers save the whole row back, so they start from the committed row: an entry another instance's
+        // write made stale would silently undo that write
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return delegate.findById(id);
+        }
+        Restaurant cached = cache.get(id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(CachingRestaurantRepository::copy);
+    }
+
+    // Drops the entry too, so the next findById loads the row this call saw
+    @Override
+    public Optional<Restaurant> findCurrentById(Long id) {
+        cache.invalidate(id);
+        return delegate.findCurrentById(id);
+    }
+
+    @Override
+    public Optional<Restaurant> findByOwnerId(Long ownerId) {
+        return delegate.findByOwnerId(ownerId);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return delegate.findUpdatedAtById(id);
+    }
+
+    @Override
+    public PageResult<Restaurant> findByCriteria(RestaurantCriteria criteria, int page, int size) {
+        return delegate.findByCriteria(criteria, page, size);
+    }
+
+    @Override
+    public List<Restaurant> findByCriteriaAfter(RestaurantCriteria criteria, RestaurantCursor cursor, int limit) {
+        return delegate.findByCriteriaAfter(criteria, cursor, limit);
+    }
+
+    @Override
+    public List<NearbyRestaurant> findNearby(GeoPoint origin, double radiusKm, RestaurantCriteria criteria, int limit) {
+        return delegate.findNearby(origin, radiusKm, criteria, limit);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long countByCriteria(RestaurantCriteria criteria) {
+        return delegate.countByCriteria(criteria);
+    }
+
+    // Folds run on every instance but each evicts only here; elsewhere the old rating lives until ttl expires
+    @Override
+    public List<Long> applyPendingRatings() {
+        List<Long> ids = delegate.applyPendingRatings();
+        ids.forEach(id -> TransactionAwareEviction.evict(() -> cache.invalidate(id)));
+        return ids;
+    }
+
+    // Exports read through to the database without filling the cache
+    @Override
+    public void forEachInCatalog(boolean withMenus, Consumer<CatalogEntry> consumer) {
+        delegate.forEachInCatalog(withMenus, consumer);
+    }
+
+    @Override
+    public void delete(Restaurant restaurant) {
+        delegate.delete(restaurant);
+        TransactionAwareEviction.evict(() -> cache.invalidate(restaurant.getId()));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    private static Restaurant copy(Restaurant restaurant) {
+        return Restaurant.reconstruct(
+                restaurant.getId(),
+                restaurant.getOwnerId(),
+                restaurant.getName(),
+                restaurant.getCuisine(),
+                restaurant.getAddress(),
+                restaurant.getOpeningHours(),
+                restaurant.getWeeklySchedule(),
+                restaurant.getRating(),
+                restaurant.isOpen(),
+                restaurant.getCreatedAt(),
+                restaurant.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts schedule intervals to and from int4multirange text, e.g. {[660,900),[1080,1380)}
+ * Postgres prints integer ranges in this canonical [start, end) form, which is also what it reads.
+ */
+final class MinuteRanges {
+
+    private static final Pattern RANGE = Pattern.compile("\\[(-?\\d+),(-?\\d+)\\)");
+
+    private MinuteRanges() {
+    }
+
+    // Every bound moves by offset, which places the week at its zone's position in open_slots
+    static String format(List<WeeklySchedule.Interval> intervals, int offset) {
+        StringJoiner ranges = new StringJoiner(",", "{", "}");
+        for (WeeklySchedule.Interval interval : intervals) {
+            ranges.add("[" + (interval.start() + offset) + "," + (interval.end() + offset) + ")");
+        }
+        return ranges.toString();
+    }
+
+    static List<WeeklySchedule.Interval> parse(String multirange) {
+        List<WeeklySchedule.Interval> intervals = new ArrayList<>();
+        Matcher range = RANGE.matcher(multirange);
+        while (range.find()) {
+            intervals.add(new WeeklySchedule.Interval(Integer.parseInt(range.group(1)), Integer.parseInt(range.group(2))));
+        }
+        return intervals;
+    }
+}
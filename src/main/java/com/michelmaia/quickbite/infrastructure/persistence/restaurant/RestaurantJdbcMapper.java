@@ -1,7 +1,9 @@
 package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
 
 import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
@@ -21,7 +23,16 @@ public class RestaurantJdbcMapper {
                     rs.getString("street"),
                     rs.getString("city"),
                     rs.getString("state"),
-                    rs.getString("zip_code")
+                    rs.getString("zip_code"),
+                    GeoPoint.ofNullable(rs.getObject("latitude", Double.class), rs.getObject("longitude", Double.class))
+            );
+        }
+
+        WeeklySchedule weeklySchedule = null;
+        if (rs.getString("time_zone") != null) {
+            weeklySchedule = WeeklySchedule.ofIntervals(
+                    rs.getString("time_zone"),
+                    MinuteRanges.parse(rs.getString("weekly_hours"))
             );
         }
 
@@ -32,6 +43,7 @@ public class RestaurantJdbcMapper {
                 rs.getString("cuisine"),
                 address,
                 rs.getString("opening_hours"),
+                weeklySchedule,
                 rs.getDouble("rating"),
                 rs.getBoolean("is_open"),
                 rs.getObject("created_at", LocalDateTime.class),
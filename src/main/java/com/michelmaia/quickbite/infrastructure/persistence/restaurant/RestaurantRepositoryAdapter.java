@@ -1,12 +1,32 @@
 package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
 
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.entity.NearbyRestaurant;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCursor;
 import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
+import com.michelmaia.quickbite.infrastructure.persistence.common.PagedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Infrastructure Adapter: Implements RestaurantRepository using JDBC
@@ -14,12 +34,125 @@ import java.util.Optional;
 @Repository
 public class RestaurantRepositoryAdapter implements RestaurantRepository {
 
+    static final String RESTAURANT_COLUMNS = """
+                r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.time_zone, r.weekly_hours,
+                       r.rating, r.is_open, r.created_at, r.updated_at,
+                       a.street, a.city, a.state, a.zip_code, a.latitude, a.longitude""";
+
+    static final String FROM_RESTAURANTS = """
+
+                FROM restaurants r
+                LEFT JOIN addresses a ON r.address_id = a.id
+            """;
+
+    private static final String SELECT_RESTAURANT = "SELECT " + RESTAURANT_COLUMNS + FROM_RESTAURANTS;
+
+    // Address and restaurant are written and returned by a single statement
+    private static final String INSERT_RESTAURANT = """
+            WITH a AS (
+                INSERT INTO addresses (street, city, state, zip_code, latitude, longitude)
+                VALUES (:street, :city, :state, :zipCode, :latitude, :longitude)
+                RETURNING *
+            ), r AS (
+                INSERT INTO restaurants (owner_id, name, cuisine, address_id, opening_hours,
+                                         time_zone, weekly_hours, open_slots, rating, is_open)
+                VALUES (:ownerId, :name, :cuisine, (SELECT id FROM a), :openingHours,
+                        :timeZone, CAST(:weeklyHours AS int4multirange), CAST(:openSlots AS int4multirange),
+                        :rating, :isOpen)
+                RETURNING *
+            )
+            SELECT """ + RESTAURANT_COLUMNS + """
+
+            FROM r
+            JOIN a ON r.address_id = a.id
+        """;
+
+    // Once reviews were folded in, the rating is theirs and a rating set by hand is ignored.
+    // CTEs share one snapshot, so the written state is read back from RETURNING rather than the tables
+    private static final String UPDATE_RESTAURANT = """
+            WITH a AS (
+                UPDATE addresses
+                SET street = :street, city = :city, state = :state, zip_code = :zipCode,
+                    latitude = :latitude, longitude = :longitude
+                WHERE id = (SELECT address_id FROM restaurants WHERE id = :id)
+                RETURNING *
+            ), r AS (
+                UPDATE restaurants
+                SET name = :name, cuisine = :cuisine, opening_hours = :openingHours,
+                    time_zone = :timeZone, weekly_hours = CAST(:weeklyHours AS int4multirange),
+                    open_slots = CAST(:openSlots AS int4multirange), is_open = :isOpen, updated_at = CURRENT_TIMESTAMP,
+                    rating = CASE WHEN rating_count > 0 THEN rating ELSE :rating END
+                WHERE id = :id
+                RETURNING *
+            )
+            SELECT """ + RESTAURANT_COLUMNS + """
+
+            FROM r
+            LEFT JOIN a ON r.address_id = a.id
+        """;
+
+    /*
+     * Folds the pending review counters into the running sum and count of their restaurants and derives the
+     * rating from those, never from the reviews themselves. Stripes locked by a review still in flight are
+     * skipped rather than waited for, as are those claimed by a fold running elsewhere; the next fold takes them.
+     * updated_at moves with the rating, since it is part of the restaurant's ETag. Only the instance running
+     * the fold evicts its cached copy: other instances serve the old rating and ETag for up to cache.restaurants.ttl.
+     */
+    private static final String APPLY_PENDING_RATINGS = """
+            WITH claimed AS (
+                SELECT restaurant_id, stripe
+                FROM restaurant_rating_stripes
+                ORDER BY restaurant_id, stripe
+                FOR UPDATE SKIP LOCKED
+            ), folded AS (
+                DELETE FROM restaurant_rating_stripes s
+                USING claimed c
+                WHERE s.restaurant_id = c.restaurant_id AND s.stripe = c.stripe
+                RETURNING s.restaurant_id, s.rating_sum, s.rating_count
+            ), pending AS (
+                SELECT restaurant_id, SUM(rating_sum) AS rating_sum, SUM(rating_count) AS rating_count
+                FROM folded
+                GROUP BY restaurant_id
+            )
+            UPDATE restaurants r
+            SET rating_sum = r.rating_sum + p.rating_sum,
+                rating_count = r.rating_count + p.rating_count,
+                rating = ROUND(CAST(r.rating_sum + p.rating_sum AS NUMERIC) / (r.rating_count + p.rating_count), 1),
+                updated_at = CURRENT_TIMESTAMP
+            FROM pending p
+            WHERE r.id = p.restaurant_id
+            RETURNING r.id
+            """;
+
+    private static final String SELECT_CATALOG = SELECT_RESTAURANT + "ORDER BY r.id";
+
+    // Menu items follow their restaurant, oldest first, so one pass over the rows rebuilds every menu
+    private static final String SELECT_CATALOG_WITH_MENUS = "SELECT " + RESTAURANT_COLUMNS + """
+            ,
+                       m.id AS menu_item_id, m.name AS menu_item_name, m.description AS menu_item_description,
+                       m.price AS menu_item_price, m.image_url AS menu_item_image_url,
+                       m.is_available AS menu_item_is_available,
+                       m.created_at AS menu_item_created_at, m.updated_at AS menu_item_updated_at""" + FROM_RESTAURANTS + """
+                LEFT JOIN menu_items m ON m.restaurant_id = r.id
+                ORDER BY r.id, m.created_at, m.id
+            """;
+
+    // Rows fetched per round trip while exporting; only this many are held in memory at a time
+    private static final int CATALOG_FETCH_SIZE = 500;
+
     private final JdbcClient jdbcClient;
+    private final JdbcTemplate cursorTemplate;
     private final RestaurantJdbcMapper mapper;
+    private final RestaurantSqlBuilder sqlBuilder = new RestaurantSqlBuilder();
+    private final ScheduleZones scheduleZones;
 
-    public RestaurantRepositoryAdapter(JdbcClient jdbcClient, RestaurantJdbcMapper mapper) {
+    public RestaurantRepositoryAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate, RestaurantJdbcMapper mapper) {
         this.jdbcClient = jdbcClient;
         this.mapper = mapper;
+        this.scheduleZones = new ScheduleZones(jdbcClient);
+        // The driver only reads through a server-side cursor when a fetch size is set inside a transaction
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(CATALOG_FETCH_SIZE);
     }
 
     @Override
@@ -32,155 +165,104 @@ public class RestaurantRepositoryAdapter implements RestaurantRepository {
     }
 
     private Restaurant insert(Restaurant restaurant) {
-        // Insert address first
-        Long addressId = jdbcClient.sql("""
-                INSERT INTO addresses (street, city, state, zip_code)
-                VALUES (:street, :city, :state, :zipCode)
-                RETURNING id
-            """)
+        return jdbcClient.sql(INSERT_RESTAURANT)
                 .param("street", restaurant.getAddress().getStreet())
                 .param("city", restaurant.getAddress().getCity())
                 .param("state", restaurant.getAddress().getState())
                 .param("zipCode", restaurant.getAddress().getZipCode())
-                .query(Long.class)
-                .single();
-
-        // Insert restaurant
-        Long restaurantId = jdbcClient.sql("""
-                INSERT INTO restaurants (owner_id, name, cuisine, address_id, opening_hours, rating, is_open)
-                VALUES (:ownerId, :name, :cuisine, :addressId, :openingHours, :rating, :isOpen)
-                RETURNING id
-            """)
+                .param("latitude", latitude(restaurant), Types.DOUBLE)
+                .param("longitude", longitude(restaurant), Types.DOUBLE)
                 .param("ownerId", restaurant.getOwnerId())
                 .param("name", restaurant.getName())
                 .param("cuisine", restaurant.getCuisine())
-                .param("addressId", addressId)
                 .param("openingHours", restaurant.getOpeningHours())
+                .params(scheduleParams(restaurant))
                 .param("rating", restaurant.getRating())
                 .param("isOpen", restaurant.isOpen())
-                .query(Long.class)
+                .query(mapper::mapRow)
                 .single();
-
-        return findById(restaurantId).orElseThrow();
     }
 
     private Restaurant update(Restaurant restaurant) {
-        // Update address
-        jdbcClient.sql("""
-                UPDATE addresses
-                SET street = :street, city = :city, state = :state, zip_code = :zipCode
-                WHERE id = (SELECT address_id FROM restaurants WHERE id = :restaurantId)
-            """)
+        return jdbcClient.sql(UPDATE_RESTAURANT)
                 .param("street", restaurant.getAddress().getStreet())
                 .param("city", restaurant.getAddress().getCity())
                 .param("state", restaurant.getAddress().getState())
                 .param("zipCode", restaurant.getAddress().getZipCode())
-                .param("restaurantId", restaurant.getId())
-                .update();
-
-        // Update restaurant
-        jdbcClient.sql("""
-                UPDATE restaurants
-                SET name = :name, cuisine = :cuisine, opening_hours = :openingHours,
-                    rating = :rating, is_open = :isOpen, updated_at = CURRENT_TIMESTAMP
-                WHERE id = :id
-            """)
+                .param("latitude", latitude(restaurant), Types.DOUBLE)
+                .param("longitude", longitude(restaurant), Types.DOUBLE)
                 .param("name", restaurant.getName())
                 .param("cuisine", restaurant.getCuisine())
                 .param("openingHours", restaurant.getOpeningHours())
+                .params(scheduleParams(restaurant))
                 .param("rating", restaurant.getRating())
                 .param("isOpen", restaurant.isOpen())
                 .param("id", restaurant.getId())
-                .update();
-
-        return findById(restaurant.getId()).orElseThrow();
+                .query(mapper::mapRow)
+                .optional()
+                .orElseThrow();
     }
 
     @Override
     public Optional<Restaurant> findById(Long id) {
-        return jdbcClient.sql("""
-                SELECT r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.rating, r.is_open,
-                       r.created_at, r.updated_at,
-                       a.street, a.city, a.state, a.zip_code
-                FROM restaurants r
-                LEFT JOIN addresses a ON r.address_id = a.id
-                WHERE r.id = :id
-            """)
+        return jdbcClient.sql(SELECT_RESTAURANT + "WHERE r.id = :id")
                 .param("id", id)
                 .query(mapper::mapRow)
                 .optional();
     }
 
+    @Override
+    public Optional<Restaurant> findCurrentById(Long id) {
+        return findById(id);
+    }
+
     @Override
     public Optional<Restaurant> findByOwnerId(Long ownerId) {
-        return jdbcClient.sql("""
-                SELECT r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.rating, r.is_open,
-                       r.created_at, r.updated_at,
-                       a.street, a.city, a.state, a.zip_code
-                FROM restaurants r
-                LEFT JOIN addresses a ON r.address_id = a.id
-                WHERE r.owner_id = :ownerId
-            """)
+        return jdbcClient.sql(SELECT_RESTAURANT + "WHERE r.owner_id = :ownerId")
                 .param("ownerId", ownerId)
                 .query(mapper::mapRow)
                 .optional();
     }
 
     @Override
-    public List<Restaurant> findAll(int page, int size) {
-        int offset = page * size;
-        return jdbcClient.sql("""
-                SELECT r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.rating, r.is_open,
-                       r.created_at, r.updated_at,
-                       a.street, a.city, a.state, a.zip_code
-                FROM restaurants r
-                LEFT JOIN addresses a ON r.address_id = a.id
-                ORDER BY r.created_at DESC
-                LIMIT :size OFFSET :offset
-            """)
-                .param("size", size)
-                .param("offset", offset)
-                .query(mapper::mapRow)
-                .list();
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return jdbcClient.sql("SELECT updated_at FROM restaurants WHERE id = :id")
+                .param("id", id)
+                .query(LocalDateTime.class)
+                .optional();
     }
 
     @Override
-    public List<Restaurant> findByCuisine(String cuisine, int page, int size) {
-        int offset = page * size;
-        return jdbcClient.sql("""
-                SELECT r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.rating, r.is_open,
-                       r.created_at, r.updated_at,
-                       a.street, a.city, a.state, a.zip_code
-                FROM restaurants r
-                LEFT JOIN addresses a ON r.address_id = a.id
-                WHERE LOWER(r.cuisine) = LOWER(:cuisine)
-                ORDER BY r.created_at DESC
-                LIMIT :size OFFSET :offset
-            """)
-                .param("cuisine", cuisine)
-                .param("size", size)
-                .param("offset", offset)
-                .query(mapper::mapRow)
-                .list();
+    public PageResult<Restaurant> findByCriteria(RestaurantCriteria criteria, int page, int size) {
+        return PagedQuery.fetch(jdbcClient.sql(sqlBuilder.page(criteria)).params(params(criteria)),
+                mapper::mapRow, page, size);
     }
 
     @Override
-    public List<Restaurant> findByMinRating(Double minRating, int page, int size) {
-        int offset = page * size;
-        return jdbcClient.sql("""
-                SELECT r.id, r.owner_id, r.name, r.cuisine, r.opening_hours, r.rating, r.is_open,
-                       r.created_at, r.updated_at,
-                       a.street, a.city, a.state, a.zip_code
-                FROM restaurants r
-                LEFT JOIN addresses a ON r.address_id = a.id
-                WHERE r.rating >= :minRating
-                ORDER BY r.rating DESC
-                LIMIT :size OFFSET :offset
-            """)
-                .param("minRating", minRating)
-                .param("size", size)
-                .param("offset", offset)
-                .query(mapper::mapRow)
+    public List<Restaurant> findByCriteriaAfter(RestaurantCriteria criteria, RestaurantCursor cursor, int limit) {
+        JdbcClient.StatementSpec statement = jdbcClient.sql(sqlBuilder.keyset(criteria, cursor != null))
+                .params(params(criteria))
+                .param("limit", limit);
+        if (cursor != null) {
+            Object cursorKey = cursor.order() == RestaurantSortOrder.TOP_RATED
+                    ? cursor.ratingKey()
+                    : cursor.createdAtKey();
+            statement = statement
+                    .param("cursorKey", cursorKey)
+                    .param("cursorId", cursor.id());
+        }
+        return statement.query(mapper::mapRow).list();
+    }
+
+    @Override
+    public List<NearbyRestaurant> findNearby(GeoPoint origin, double radiusKm, RestaurantCriteria criteria, int limit) {
+        return jdbcClient.sql(sqlBuilder.nearby(criteria))
+                .params(params(criteria))
+                .param("latitude", origin.latitude())
+                .param("longitude", origin.longitude())
+                .param("radius", radiusKm * 1000)
+                .param("limit", limit)
+                .query((rs, rowNum) -> new NearbyRestaurant(mapper.mapRow(rs, rowNum), rs.getDouble("distance_m") / 1000))
                 .list();
     }
 
@@ -192,17 +274,48 @@ public class RestaurantRepositoryAdapter implements RestaurantRepository {
     }
 
     @Override
-    public long countByCuisine(String cuisine) {
-        return jdbcClient.sql("SELECT COUNT(*) FROM restaurants WHERE LOWER(cuisine) = LOWER(:cuisine)")
-                .param("cuisine", cuisine)
+    public List<Long> applyPendingRatings() {
+        return jdbcClient.sql(APPLY_PENDING_RATINGS)
                 .query(Long.class)
-                .single();
+                .list();
+    }
+
+    @Override
+    public void forEachInCatalog(boolean withMenus, Consumer<CatalogEntry> consumer) {
+        if (!withMenus) {
+            cursorTemplate.query(SELECT_CATALOG,
+                    (ResultSet rs) -> consumer.accept(new CatalogEntry(mapper.mapRow(rs, 0), null)));
+            return;
+        }
+
+        // Rows arrive grouped by restaurant: an entry is complete once the next restaurant starts
+        var current = new Object() {
+            Restaurant restaurant;
+            List<MenuItem> menuItems;
+        };
+        cursorTemplate.query(SELECT_CATALOG_WITH_MENUS, (ResultSet rs) -> {
+            long restaurantId = rs.getLong("id");
+            if (current.restaurant == null || current.restaurant.getId() != restaurantId) {
+                if (current.restaurant != null) {
+                    consumer.accept(new CatalogEntry(current.restaurant, current.menuItems));
+                }
+                current.restaurant = mapper.mapRow(rs, 0);
+                current.menuItems = new ArrayList<>();
+            }
+            rs.getLong("menu_item_id");
+            if (!rs.wasNull()) {
+                current.menuItems.add(mapMenuItem(rs, restaurantId));
+            }
+        });
+        if (current.restaurant != null) {
+            consumer.accept(new CatalogEntry(current.restaurant, current.menuItems));
+        }
     }
 
     @Override
-    public long countByMinRating(Double minRating) {
-        return jdbcClient.sql("SELECT COUNT(*) FROM restaurants WHERE rating >= :minRating")
-                .param("minRating", minRating)
+    public long countByCriteria(RestaurantCriteria criteria) {
+        return jdbcClient.sql(sqlBuilder.count(criteria))
+                .params(params(criteria))
                 .query(Long.class)
                 .single();
     }
@@ -237,4 +350,56 @@ public class RestaurantRepositoryAdapter implements RestaurantRepository {
                 .query(Long.class)
                 .single() > 0;
     }
-}
\ No newline at end of file
+
+    // Schedule columns; open_slots places the week at its zone's stretch of the line, see ScheduleZones
+    private Map<String, Object> scheduleParams(Restaurant restaurant) {
+        WeeklySchedule schedule = restaurant.getWeeklySchedule();
+        String timeZone = null;
+        String weeklyHours = null;
+        String openSlots = null;
+        if (schedule != null) {
+            int zoneId = scheduleZones.idOf(schedule.getZone());
+            timeZone = schedule.getZone().getId();
+            weeklyHours = MinuteRanges.format(schedule.getIntervals(), 0);
+            openSlots = MinuteRanges.format(schedule.getIntervals(), zoneId * WeeklySchedule.MINUTES_PER_WEEK);
+        }
+        return Map.of(
+                "timeZone", new SqlParameterValue(Types.VARCHAR, timeZone),
+                "weeklyHours", new SqlParameterValue(Types.VARCHAR, weeklyHours),
+                "openSlots", new SqlParameterValue(Types.VARCHAR, openSlots)
+        );
+    }
+
+    // Filter values, plus the current slot of every schedule zone when only restaurants open now are wanted
+    private Map<String, Object> params(RestaurantCriteria criteria) {
+        Map<String, Object> params = sqlBuilder.params(criteria);
+        if (criteria.openNow()) {
+            params.put("openNowSlots", scheduleZones.slotsAt(Instant.now()));
+        }
+        return params;
+    }
+
+    private static Double latitude(Restaurant restaurant) {
+        GeoPoint location = restaurant.getAddress().getLocation();
+        return location != null ? location.latitude() : null;
+    }
+
+    private static Double longitude(Restaurant restaurant) {
+        GeoPoint location = restaurant.getAddress().getLocation();
+        return location != null ? location.longitude() : null;
+    }
+
+    private static MenuItem mapMenuItem(ResultSet rs, long restaurantId) throws SQLException {
+        return MenuItem.reconstruct(
+                rs.getLong("menu_item_id"),
+                restaurantId,
+                rs.getString("menu_item_name"),
+                rs.getString("menu_item_description"),
+                rs.getDouble("menu_item_price"),
+                rs.getString("menu_item_image_url"),
+                rs.getBoolean("menu_item_is_available"),
+                rs.getObject("menu_item_created_at", LocalDateTime.class),
+                rs.getObject("menu_item_updated_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
+import com.michelmaia.quickbite.infrastructure.persistence.common.LikePatterns;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Builds restaurant listing statements from a RestaurantCriteria
+ * The SQL text depends only on the shape of the criteria (which filters are present, sort order, paging mode),
+ * never on filter values, which are always bound. Each shape is rendered once and cached, so the driver's
+ * prepared statement cache sees one stable statement per combination. There are at most a few hundred shapes.
+ */
+final class RestaurantSqlBuilder {
+
+    private enum Mode {
+        PAGE,
+        KEYSET_FIRST,
+        KEYSET_AFTER,
+        NEARBY,
+        COUNT
+    }
+
+    private enum Filter {
+        CUISINE("LOWER(r.cuisine) = LOWER(:cuisine)", false, RestaurantCriteria::cuisine),
+        // Compare as NUMERIC so the predicate matches the rating column type and its index
+        MIN_RATING("r.rating >= CAST(:minRating AS NUMERIC)", false, RestaurantCriteria::minRating),
+        IS_OPEN("r.is_open = :isOpen", false, RestaurantCriteria::isOpen),
+        // One slot per schedule zone is probed in the GiST index on open_slots, see ScheduleZones
+        OPEN_NOW("r.is_open AND r.open_slots @> ANY(CAST(:openNowSlots AS INT[]))", false,
+                criteria -> criteria.openNow() ? Boolean.TRUE : null),
+        CITY("LOWER(a.city) = LOWER(:city)", true, RestaurantCriteria::city),
+        STATE("LOWER(a.state) = LOWER(:state)", true, RestaurantCriteria::state),
+        NAME_PREFIX("LOWER(r.name) LIKE :namePrefix", false, RestaurantCriteria::namePrefix);
+
+        private final String predicate;
+        private final boolean onAddress;
+        private final Function<RestaurantCriteria, Object> value;
+
+        Filter(String predicate, boolean onAddress, Function<RestaurantCriteria, Object> value) {
+            this.predicate = predicate;
+            this.onAddress = onAddress;
+            this.value = value;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final String ORIGIN = "ll_to_earth(:latitude, :longitude)";
+    private static final String LOCATION = "ll_to_earth(a.latitude, a.longitude)";
+    private static final String DISTANCE = "earth_distance(" + ORIGIN + ", " + LOCATION + ")";
+
+    private record Shape(int filters, RestaurantSortOrder order, Mode mode) {
+    }
+
+    private final ConcurrentMap<Shape, String> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Offset page ending with LIMIT :limit OFFSET :offset, as expected by PagedQuery
+     */
+    String page(RestaurantCriteria criteria) {
+        return sql(criteria, Mode.PAGE);
+    }
+
+    /**
+     * Keyset page ending with LIMIT :limit; after a cursor it also binds :cursorKey and :cursorId
+     */
+    String keyset(RestaurantCriteria criteria, boolean afterCursor) {
+        return sql(criteria, afterCursor ? Mode.KEYSET_AFTER : Mode.KEYSET_FIRST);
+    }
+
+    /**
+     * Restaurants within :radius metres of (:latitude, :longitude), nearest first, ending with LIMIT :limit
+     * Rows carry their distance in metres as distance_m; the sort order of the criteria does not apply.
+     */
+    String nearby(RestaurantCriteria criteria) {
+        return sql(criteria, Mode.NEARBY);
+    }
+
+    String count(RestaurantCriteria criteria) {
+        return sql(criteria, Mode.COUNT);
+    }
+
+    /**
+     * Values of the filters present in the criteria, keyed by their parameter names
+     * The slots for openNow depend on the clock and the known zones, so the caller binds :openNowSlots.
+     */
+    Map<String, Object> params(RestaurantCriteria criteria) {
+        Map<String, Object> params = new HashMap<>();
+        if (criteria.cuisine() != null) {
+            params.put("cuisine", criteria.cuisine());
+        }
+        if (criteria.minRating() != null) {
+            params.put("minRating", criteria.minRating());
+        }
+        if (criteria.isOpen() != null) {
+            params.put("isOpen", criteria.isOpen());
+        }
+        if (criteria.city() != null) {
+            params.put("city", criteria.city());
+        }
+        if (criteria.state() != null) {
+            params.put("state", criteria.state());
+        }
+        if (criteria.namePrefix() != null) {
+            params.put("namePrefix", LikePatterns.startsWith(criteria.namePrefix().toLowerCase(Locale.ROOT)));
+        }
+        return params;
+    }
+
+    int cachedShapes() {
+        return statements.size();
+    }
+
+    private String sql(RestaurantCriteria criteria, Mode mode) {
+        int filters = 0;
+        for (Filter filter : Filter.values()) {
+            if (filter.value.apply(criteria) != null) {
+                filters |= filter.bit();
+            }
+        }
+        RestaurantSortOrder order = mode == Mode.NEARBY ? null : criteria.order();
+        return statements.computeIfAbsent(new Shape(filters, order, mode), this::render);
+    }
+
+    private String render(Shape shape) {
+        List<String> conditions = new ArrayList<>();
+        boolean onAddress = false;
+        for (Filter filter : Filter.values()) {
+            if ((shape.filters() & filter.bit()) != 0) {
+                conditions.add(filter.predicate);
+                onAddress |= filter.onAddress;
+            }
+        }
+
+        StringBuilder sql = new StringBuilder();
+        if (shape.mode() == Mode.COUNT) {
+            // Counts only join the address when a filter needs it
+            sql.append("SELECT COUNT(*)\nFROM restaurants r\n");
+            if (onAddress) {
+                sql.append("JOIN addresses a ON r.address_id = a.id\n");
+            }
+            appendWhere(sql, conditions);
+            return sql.toString();
+        }
+
+        if (shape.mode() == Mode.NEARBY) {
+            // The bounding cube is matched by the GiST index; the exact distance then trims its corners
+            conditions.add(0, "earth_box(" + ORIGIN + ", :radius) @> " + LOCATION);
+            conditions.add(1, DISTANCE + " <= :radius");
+            sql.append("SELECT ")
+                    .append(RestaurantRepositoryAdapter.RESTAURANT_COLUMNS)
+                    .append(", ").append(DISTANCE).append(" AS distance_m")
+                    .append(RestaurantRepositoryAdapter.FROM_RESTAURANTS);
+            appendWhere(sql, conditions);
+            sql.append("ORDER BY distance_m, r.id\nLIMIT :limit");
+            return sql.toString();
+        }
+
+        String keyColumn = shape.order() == RestaurantSortOrder.TOP_RATED ? "r.rating" : "r.created_at";
+        if (shape.mode() == Mode.KEYSET_AFTER) {
+            // Seeks past (key, id) of the cursor instead of skipping rows with OFFSET
+            conditions.add("(" + keyColumn + ", r.id) < (:cursorKey, :cursorId)");
+        }
+
+        sql.append("SELECT ")
+                .append(RestaurantRepositoryAdapter.RESTAURANT_COLUMNS)
+                .append(RestaurantRepositoryAdapter.FROM_RESTAURANTS);
+        appendWhere(sql, conditions);
+        sql.append("ORDER BY ").append(keyColumn).append(" DESC, r.id DESC\n");
+        if (shape.mode() == Mode.PAGE) {
+            sql.append("LIMIT :limit OFFSET :offset");
+        } else {
+            sql.append("LIMIT :limit");
+        }
+        return sql.toString();
+    }
+
+    private static void appendWhere(StringBuilder sql, List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            sql.append("WHERE ").append(String.join("\n  AND ", conditions)).append('\n');
+        }
+    }
+}
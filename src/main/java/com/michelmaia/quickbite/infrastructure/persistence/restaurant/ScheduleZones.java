@@ -0,0 +1,98 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Numbers the time zones schedules are kept in, so that restaurants.open_slots can hold every zone on one
+ * integer line: zone id * MINUTES_PER_WEEK + local minute of week.
+ * "Open now" is then one slot per zone in use, found through the GiST index on open_slots.
+ * Ids must stay at or below MAX_ZONE_ID for the last stretch to fit in int4, so zones are only inserted when
+ * missing: every INSERT takes a sequence value, even one that ends in a conflict.
+ * The zones are re-read at most once a minute, or right away when this instance registers a new one;
+ * a zone first used by another instance is matched here from the next refresh.
+ */
+final class ScheduleZones {
+
+    private static final long REFRESH_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    static final int MAX_ZONE_ID = Integer.MAX_VALUE / WeeklySchedule.MINUTES_PER_WEEK - 1;
+
+    private static final String INSERT_ZONE = """
+            INSERT INTO time_zones (name) VALUES (:name)
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id
+            """;
+
+    private record Snapshot(Map<ZoneId, Integer> ids, long loadedAt) {
+    }
+
+    private final JdbcClient jdbcClient;
+    private volatile Snapshot snapshot;
+
+    ScheduleZones(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Id of the zone, registering it on first use; runs in the caller's transaction,
+     * so a rolled back registration is never remembered
+     */
+    int idOf(ZoneId zone) {
+        Snapshot current = snapshot;
+        Integer known = current != null ? current.ids().get(zone) : null;
+        if (known != null) {
+            return known;
+        }
+
+        // A concurrent registration of the same zone makes the INSERT return nothing; read the winner's id
+        int id = find(zone).orElseGet(() -> jdbcClient.sql(INSERT_ZONE)
+                .param("name", zone.getId())
+                .query(Integer.class)
+                .optional()
+                .orElseGet(() -> find(zone).orElseThrow()));
+        if (id > MAX_ZONE_ID) {
+            throw new IllegalStateException("Time zone id " + id + " of " + zone + " is past the last open_slots stretch");
+        }
+        snapshot = null;
+        return id;
+    }
+
+    private Optional<Integer> find(ZoneId zone) {
+        return jdbcClient.sql("SELECT id FROM time_zones WHERE name = :name")
+                .param("name", zone.getId())
+                .query(Integer.class)
+                .optional();
+    }
+
+    /**
+     * The slot of the given instant in every known zone, as an int[] literal
+     */
+    String slotsAt(Instant instant) {
+        StringJoiner slots = new StringJoiner(",", "{", "}");
+        current().ids().forEach((zone, id) -> slots.add(String.valueOf(
+                id * WeeklySchedule.MINUTES_PER_WEEK + WeeklySchedule.minuteOfWeek(instant.atZone(zone)))));
+        return slots.toString();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt() > REFRESH_NANOS) {
+            Map<ZoneId, Integer> ids = jdbcClient.sql("SELECT id, name FROM time_zones")
+                    .query((rs, rowNum) -> Map.entry(ZoneId.of(rs.getString("name")), rs.getInt("id")))
+                    .stream()
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+            current = new Snapshot(ids, System.nanoTime());
+            snapshot = current;
+        }
+        return current;
+    }
+}
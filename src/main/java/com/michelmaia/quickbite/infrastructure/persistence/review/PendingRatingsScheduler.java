@@ -0,0 +1,48 @@
+package com.michelmaia.quickbite.infrastructure.persistence.review;
+
+import com.michelmaia.quickbite.application.usecase.review.ApplyPendingRatingsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds pending review ratings into restaurant ratings on a fixed delay
+ * A failed run (e.g. a deadlock with a fold on another instance) leaves its stripes for the next one.
+ */
+public final class PendingRatingsScheduler implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PendingRatingsScheduler.class);
+
+    private final ApplyPendingRatingsUseCase applyPendingRatingsUseCase;
+    private final ScheduledExecutorService scheduler;
+
+    public PendingRatingsScheduler(ApplyPendingRatingsUseCase applyPendingRatingsUseCase, Duration interval) {
+        this.applyPendingRatingsUseCase = applyPendingRatingsUseCase;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pending-ratings");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::apply, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void apply() {
+        try {
+            int updated = applyPendingRatingsUseCase.execute();
+            if (updated > 0) {
+                LOGGER.debug("Applied pending review ratings to {} restaurants", updated);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Applying pending review ratings failed; retrying on the next run", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,26 @@
+package com.michelmaia.quickbite.infrastructure.persistence.review;
+
+import com.michelmaia.quickbite.domain.review.entity.Review;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Maps JDBC ResultSet to Domain Entity
+ */
+@Component
+public class ReviewJdbcMapper {
+
+    public Review mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Review.reconstruct(
+                rs.getLong("id"),
+                rs.getLong("restaurant_id"),
+                rs.getObject("user_id", Long.class),
+                rs.getInt("rating"),
+                rs.getString("comment"),
+                rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
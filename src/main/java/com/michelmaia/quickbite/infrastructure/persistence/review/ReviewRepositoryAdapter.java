@@ -0,0 +1,106 @@
+package com.michelmaia.quickbite.infrastructure.persistence.review;
+
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.review.entity.Review;
+import com.michelmaia.quickbite.domain.review.exception.ReviewAlreadyExistsException;
+import com.michelmaia.quickbite.domain.review.repository.ReviewRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.PagedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Infrastructure Adapter: Implements ReviewRepository using JDBC
+ */
+@Repository
+public class ReviewRepositoryAdapter implements ReviewRepository {
+
+    /*
+     * The review and its share of the rating are written in one statement. The rating goes to a random
+     * stripe of the restaurant's pending counters rather than to the restaurant row, so concurrent reviews
+     * of one restaurant rarely wait on the same lock; RestaurantRepository.applyPendingRatings folds the
+     * stripes into the restaurant later. A concurrent fold that deleted the stripe makes the upsert insert it anew.
+     * A duplicate review inserts nothing, so neither does the stripe.
+     */
+    private static final String INSERT_REVIEW = """
+            WITH review AS (
+                INSERT INTO reviews (restaurant_id, user_id, rating, comment)
+                VALUES (:restaurantId, :userId, :rating, :comment)
+                ON CONFLICT (restaurant_id, user_id) DO NOTHING
+                RETURNING id, restaurant_id, user_id, rating, comment, created_at
+            ), stripe AS (
+                INSERT INTO restaurant_rating_stripes (restaurant_id, stripe, rating_sum, rating_count)
+                SELECT restaurant_id, :stripe, rating, 1 FROM review
+                ON CONFLICT (restaurant_id, stripe) DO UPDATE
+                SET rating_sum = restaurant_rating_stripes.rating_sum + EXCLUDED.rating_sum,
+                    rating_count = restaurant_rating_stripes.rating_count + EXCLUDED.rating_count
+            )
+            SELECT * FROM review
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final ReviewJdbcMapper mapper;
+    private final int stripes;
+
+    public ReviewRepositoryAdapter(JdbcClient jdbcClient, ReviewJdbcMapper mapper,
+                                   @Value("${reviews.rating-stripes:8}") int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("reviews.rating-stripes must be at least 1");
+        }
+        this.jdbcClient = jdbcClient;
+        this.mapper = mapper;
+        this.stripes = stripes;
+    }
+
+    @Override
+    public Review save(Review review) {
+        if (!review.isNew()) {
+            throw new IllegalStateException("Reviews cannot be modified");
+        }
+        return jdbcClient.sql(INSERT_REVIEW)
+                .param("restaurantId", review.getRestaurantId())
+                .param("userId", review.getUserId())
+                .param("rating", review.getRating())
+                .param("comment", review.getComment())
+                .param("stripe", ThreadLocalRandom.current().nextInt(stripes))
+                .query(mapper::mapRow)
+                .optional()
+                // A concurrent request of the same user got there first
+                .orElseThrow(() -> new ReviewAlreadyExistsException(review.getRestaurantId()));
+    }
+
+    @Override
+    public boolean existsByRestaurantIdAndUserId(Long restaurantId, Long userId) {
+        return jdbcClient.sql("""
+                SELECT EXISTS(SELECT 1 FROM reviews WHERE restaurant_id = :restaurantId AND user_id = :userId)
+            """)
+                .param("restaurantId", restaurantId)
+                .param("userId", userId)
+                .query(Boolean.class)
+                .single();
+    }
+
+    @Override
+    public PageResult<Review> findByRestaurantId(Long restaurantId, int page, int size, boolean withTotal) {
+        String sql = "SELECT id, restaurant_id, user_id, rating, comment, created_at"
+                + PagedQuery.totalColumn(withTotal) + """
+
+                FROM reviews
+                WHERE restaurant_id = :restaurantId
+                ORDER BY created_at DESC, id DESC
+                LIMIT :limit OFFSET :offset
+            """;
+        return PagedQuery.fetch(jdbcClient.sql(sql).param("restaurantId", restaurantId),
+                mapper::mapRow, page, size, withTotal, () -> countByRestaurantId(restaurantId));
+    }
+
+    @Override
+    public long countByRestaurantId(Long restaurantId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM reviews WHERE restaurant_id = :restaurantId")
+                .param("restaurantId", restaurantId)
+                .query(Long.class)
+                .single();
+    }
+}
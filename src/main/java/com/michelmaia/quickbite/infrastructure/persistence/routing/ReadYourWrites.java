@@ -0,0 +1,32 @@
+package com.michelmaia.quickbite.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Clients that wrote recently, so their reads stay on the primary until replicas have caught up
+ * Entries expire on their own once the stickiness window has passed.
+ */
+final class ReadYourWrites {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    ReadYourWrites(Duration stickiness, long maximumClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterWrite(stickiness)
+                .build();
+    }
+
+    void wrote(String client) {
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    boolean isSticky(String client) {
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.michelmaia.quickbite.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Measures replication lag of every replica on a fixed delay and hands out the ones within maxLag, round robin
+ * A replica that cannot be reached counts as lagging. Until the first check completes none is available.
+ */
+final class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // A primary standing in as a replica is not in recovery and has no lag; a replica that replayed
+    // everything it received has none either, however long ago its last transaction was
+    private static final String LAG_MILLIS = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final Function<DataSource, Duration> lagProbe;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean[] available;
+    private ScheduledExecutorService scheduler;
+
+    ReplicaLagMonitor(List<DataSource> replicas, Duration maxLag) {
+        this(replicas, maxLag, ReplicaLagMonitor::queryLag);
+    }
+
+    ReplicaLagMonitor(List<DataSource> replicas, Duration maxLag, Function<DataSource, Duration> lagProbe) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagProbe = lagProbe;
+        this.available = new boolean[replicas.size()];
+    }
+
+    void start(Duration checkInterval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void check() {
+        boolean[] result = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Duration lag = lagProbe.apply(replicas.get(i));
+                result[i] = lag != null && lag.compareTo(maxLag) <= 0;
+                if (!result[i] && available[i]) {
+                    LOGGER.warn("Replica {} lags by {}; reads fall back to the primary", i, lag);
+                }
+            } catch (RuntimeException e) {
+                if (available[i]) {
+                    LOGGER.warn("Replica {} is unreachable; reads fall back to the primary", i, e);
+                }
+            }
+        }
+        available = result;
+    }
+
+    /**
+     * Index of the next replica within maxLag, or -1 when every replica lags
+     */
+    int nextAvailable() {
+        boolean[] current = available;
+        if (current.length == 0) {
+            return -1;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), current.length);
+        for (int i = 0; i < current.length; i++) {
+            int index = (start + i) % current.length;
+            if (current[index]) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Duration queryLag(DataSource replica) {
+        Double millis = new JdbcTemplate(replica).queryForObject(LAG_MILLIS, Double.class);
+        return millis != null ? Duration.ofMillis(millis.longValue()) : null;
+    }
+}
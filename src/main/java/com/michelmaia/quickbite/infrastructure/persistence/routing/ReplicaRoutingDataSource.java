@@ -0,0 +1,102 @@
+package com.michelmaia.quickbite.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Infrastructure Adapter: sends read-only transactions to a replica and everything else to the primary
+ * A read stays on the primary when its client wrote within the stickiness window (read-your-writes) or when
+ * every replica lags by more than maxLag. Must sit behind a LazyConnectionDataSourceProxy: the transaction's
+ * read-only flag is only known once it has begun, after the transaction manager asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String METRIC_NAME = "quickbite.datasource.routes";
+
+    private static final String PRIMARY = "primary";
+
+    private final List<? extends DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Supplier<String> currentClient;
+    private final Map<String, Counter> routes = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                    Duration maxLag, Duration checkInterval, Duration stickiness,
+                                    Supplier<String> currentClient, MeterRegistry meterRegistry) {
+        this(primary, replicas, new ReplicaLagMonitor(List.copyOf(replicas), maxLag),
+                new ReadYourWrites(stickiness, 100_000), currentClient, meterRegistry);
+        lagMonitor.start(checkInterval);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                             ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites,
+                             Supplier<String> currentClient, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.currentClient = currentClient;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        for (String reason : List.of("no-transaction", "write", "sticky", "lagging", "replica")) {
+            routes.put(reason, Counter.builder(METRIC_NAME)
+                    .description("Connections handed out by the routing data source")
+                    .tag("target", reason.equals("replica") ? "replica" : "primary")
+                    .tag("reason", reason)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Statements outside a unit of work are not classified, so they stay where writes go
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route("no-transaction", PRIMARY);
+        }
+
+        String client = currentClient.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.wrote(client);
+            return route("write", PRIMARY);
+        }
+        if (readYourWrites.isSticky(client)) {
+            return route("sticky", PRIMARY);
+        }
+
+        int replica = lagMonitor.nextAvailable();
+        return replica < 0 ? route("lagging", PRIMARY) : route("replica", replica);
+    }
+
+    private Object route(String reason, Object key) {
+        routes.get(reason).increment();
+        return key;
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagMonitor.close();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package com.michelmaia.quickbite.infrastructure.persistence.user;
 
 import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.user.entity.Role;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import org.springframework.stereotype.Component;
 
+import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Maps JDBC ResultSet to Domain Entity
+ * Expects the user's role ids aggregated into a "role_ids" array column
  */
 @Component
 public class UserJdbcMapper {
@@ -33,10 +37,25 @@ public class UserJdbcMapper {
             rs.getString("username"),
             rs.getString("password"),
             address,
-            new ArrayList<>(), // Roles will be fetched separately
+            mapRoles(rs.getArray("role_ids")),
             rs.getBoolean("enabled"),
             rs.getObject("created_at", LocalDateTime.class),
             rs.getObject("updated_at", LocalDateTime.class)
         );
     }
+    
+    private List<Role> mapRoles(Array roleIds) throws SQLException {
+        List<Role> roles = new ArrayList<>();
+        if (roleIds == null) {
+            return roles;
+        }
+        try {
+            for (Object roleId : (Object[]) roleIds.getArray()) {
+                roles.add(Role.fromId(((Number) roleId).longValue()));
+            }
+        } finally {
+            roleIds.free();
+        }
+        return roles;
+    }
 }
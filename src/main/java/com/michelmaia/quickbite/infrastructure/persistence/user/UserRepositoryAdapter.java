@@ -1,9 +1,11 @@
 package com.michelmaia.quickbite.infrastructure.persistence.user;
 
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
 import com.michelmaia.quickbite.domain.user.entity.Role;
 import com.michelmaia.quickbite.domain.user.entity.User;
 import com.michelmaia.quickbite.domain.user.exception.UserHasRestaurantsException;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.PagedQuery;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +19,102 @@ import java.util.Optional;
 @Repository
 public class UserRepositoryAdapter implements UserRepository {
 
+    // Roles are aggregated into an array so a user and its roles load in a single statement
+    private static final String USER_COLUMNS = """
+                u.id, u.name, u.email, u.username, u.password, u.enabled,
+                       u.created_at, u.updated_at,
+                       a.street, a.city, a.state, a.zip_code,
+                       ARRAY(SELECT ur.role_id FROM user_roles ur
+                             WHERE ur.user_id = u.id ORDER BY ur.role_id) AS role_ids""";
+
+    private static final String FROM_USERS = """
+
+                FROM users u
+                LEFT JOIN addresses a ON u.address_id = a.id
+            """;
+
+    private static final String SELECT_USER = "SELECT " + USER_COLUMNS + FROM_USERS;
+
+    // Filter with EXISTS so the aggregated role_ids still carry every role of the user
+    private static final String HAS_ROLE = """
+                WHERE EXISTS (
+                    SELECT 1 FROM user_roles f
+                    WHERE f.user_id = u.id AND f.role_id = :roleId
+                )
+            """;
+
+    // Returned by the write statements below; the final SELECT cannot see rows written by its own CTEs
+    private static final String WRITTEN_USER_COLUMNS = """
+            SELECT u.id, u.name, u.email, u.username, u.password, u.enabled,
+                   u.created_at, u.updated_at,
+                   a.street, a.city, a.state, a.zip_code,
+                   ARRAY(SELECT DISTINCT role_id FROM unnest(CAST(:roleIds AS BIGINT[])) AS role_id
+                         ORDER BY role_id) AS role_ids
+            FROM u
+            LEFT JOIN a ON u.address_id = a.id
+        """;
+
+    // Address, user and roles are written and returned by a single statement
+    private static final String INSERT_USER = """
+            WITH a AS (
+                %s
+            ), u AS (
+                INSERT INTO users (name, username, password, email, address_id, enabled)
+                VALUES (:name, :username, :password, :email, (SELECT id FROM a), :enabled)
+                RETURNING *
+            ), ur AS (
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT DISTINCT u.id, role_id FROM u, unnest(CAST(:roleIds AS BIGINT[])) AS role_id
+            )
+        """ + WRITTEN_USER_COLUMNS;
+
+    // Only roles outside the new set are removed; the rest are kept or added
+    private static final String UPDATE_USER = """
+            WITH a AS (
+                %s
+            ), u AS (
+                UPDATE users
+                SET name = :name,
+                    username = :username,
+                    email = :email,
+                    password = :password,
+                    enabled = :enabled,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = :id
+                RETURNING *
+            ), removed_roles AS (
+                DELETE FROM user_roles
+                WHERE user_id = (SELECT id FROM u)
+                  AND role_id <> ALL (CAST(:roleIds AS BIGINT[]))
+            ), added_roles AS (
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT u.id, role_id FROM u, unnest(CAST(:roleIds AS BIGINT[])) AS role_id
+                ON CONFLICT DO NOTHING
+            )
+        """ + WRITTEN_USER_COLUMNS;
+
+    private static final String INSERT_ADDRESS = """
+            INSERT INTO addresses (street, city, state, zip_code)
+                VALUES (:street, :city, :state, :zipCode)
+                RETURNING *""";
+
+    private static final String UPDATE_ADDRESS = """
+            UPDATE addresses
+                SET street = :street, city = :city, state = :state, zip_code = :zipCode
+                WHERE id = (SELECT address_id FROM users WHERE id = :id)
+                RETURNING *""";
+
+    private static final String CURRENT_ADDRESS = """
+            SELECT * FROM addresses
+                WHERE id = (SELECT address_id FROM users WHERE id = :id)""";
+
+    private static final String NO_ADDRESS = "SELECT * FROM addresses WHERE FALSE";
+
+    private static final String INSERT_USER_WITH_ADDRESS = INSERT_USER.formatted(INSERT_ADDRESS);
+    private static final String INSERT_USER_WITHOUT_ADDRESS = INSERT_USER.formatted(NO_ADDRESS);
+    private static final String UPDATE_USER_WITH_ADDRESS = UPDATE_USER.formatted(UPDATE_ADDRESS);
+    private static final String UPDATE_USER_KEEPING_ADDRESS = UPDATE_USER.formatted(CURRENT_ADDRESS);
+
     private final JdbcClient jdbcClient;
     private final UserJdbcMapper mapper;
 
@@ -35,275 +133,74 @@ public class UserRepositoryAdapter implements UserRepository {
     }
 
     private User insert(User user) {
-        // Insert address first
-        Long addressId = null;
-        if (user.getAddress() != null) {
-            addressId = jdbcClient.sql("""
-                                INSERT INTO addresses (street, city, state, zip_code)
-                                VALUES (:street, :city, :state, :zipCode)
-                                RETURNING id
-                            """)
-                    .param("street", user.getAddress().getStreet())
-                    .param("city", user.getAddress().getCity())
-                    .param("state", user.getAddress().getState())
-                    .param("zipCode", user.getAddress().getZipCode())
-                    .query(Long.class)
-                    .single();
-        }
-
-        // Insert user
-        Long userId = jdbcClient.sql("""
-                            INSERT INTO users (name, username, password, email, address_id, enabled)
-                            VALUES (:name, :username, :password, :email, :addressId, :enabled)
-                            RETURNING id
-                        """)
+        String sql = user.getAddress() != null ? INSERT_USER_WITH_ADDRESS : INSERT_USER_WITHOUT_ADDRESS;
+        return addressParams(jdbcClient.sql(sql), user)
                 .param("name", user.getName())
                 .param("username", user.getUsername())
                 .param("password", user.getPassword())
                 .param("email", user.getEmail())
-                .param("addressId", addressId)
                 .param("enabled", user.isEnabled())
-                .query(Long.class)
+                .param("roleIds", roleIds(user.getRoles()))
+                .query(mapper::mapRow)
                 .single();
-
-        // Insert roles
-        insertUserRoles(userId, user.getRoles());
-
-        return findById(userId).orElseThrow();
     }
 
     private User update(User user) {
-        // Update address if exists
-        if (user.getAddress() != null) {
-            Optional<Long> addressIdOpt = jdbcClient.sql(
-                            "SELECT address_id FROM users WHERE id = :userId")
-                    .param("userId", user.getId())
-                    .query(Long.class)
-                    .optional();
-
-            if (addressIdOpt.isPresent() && addressIdOpt.get() != null) {
-                jdbcClient.sql("""
-                                    UPDATE addresses
-                                    SET street = :street, city = :city, state = :state, zip_code = :zipCode
-                                    WHERE id = :addressId
-                                """)
-                        .param("street", user.getAddress().getStreet())
-                        .param("city", user.getAddress().getCity())
-                        .param("state", user.getAddress().getState())
-                        .param("zipCode", user.getAddress().getZipCode())
-                        .param("addressId", addressIdOpt.get())
-                        .update();
-            }
-        }
-
-        // Update user
-        jdbcClient.sql("""
-                            UPDATE users
-                            SET name = :name,
-                                username = :username,
-                                email = :email,
-                                password = :password,
-                                enabled = :enabled,
-                                updated_at = CURRENT_TIMESTAMP
-                            WHERE id = :id
-                        """)
+        // Without an address the stored one is left untouched and read back as is
+        String sql = user.getAddress() != null ? UPDATE_USER_WITH_ADDRESS : UPDATE_USER_KEEPING_ADDRESS;
+        return addressParams(jdbcClient.sql(sql), user)
                 .param("name", user.getName())
                 .param("username", user.getUsername())
                 .param("email", user.getEmail())
                 .param("password", user.getPassword())
                 .param("enabled", user.isEnabled())
+                .param("roleIds", roleIds(user.getRoles()))
                 .param("id", user.getId())
-                .update();
-
-        // Update roles
-        updateUserRoles(user.getId(), user.getRoles());
-
-        return findById(user.getId()).orElseThrow();
+                .query(mapper::mapRow)
+                .optional()
+                .orElseThrow();
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        Optional<User> userOpt = jdbcClient.sql("""
-                            SELECT u.id, u.name, u.email, u.username, u.password, u.enabled, 
-                                   u.created_at, u.updated_at,
-                                   a.street, a.city, a.state, a.zip_code
-                            FROM users u
-                            LEFT JOIN addresses a ON u.address_id = a.id
-                            WHERE u.id = :id
-                        """)
+        return jdbcClient.sql(SELECT_USER + "WHERE u.id = :id")
                 .param("id", id)
                 .query(mapper::mapRow)
                 .optional();
-
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            List<Role> roles = findRolesByUserId(user.getId());
-            // Reconstruct with roles
-            User userWithRoles = User.reconstruct(
-                    user.getId(),
-                    user.getName(),
-                    user.getEmail(),
-                    user.getUsername(),
-                    user.getPassword(),
-                    user.getAddress(),
-                    roles,
-                    user.isEnabled(),
-                    user.getCreatedAt(),
-                    user.getUpdatedAt()
-            );
-            return Optional.of(userWithRoles);
-        }
-
-        return Optional.empty();
     }
 
     @Override
     public Optional<User> findByUsername(String username) {
-        String sql = """
-                    SELECT u.id, u.name, u.email, u.username, u.password, u.enabled,
-                           u.created_at, u.updated_at,
-                           a.id as address_id, a.street, a.city, a.state, a.zip_code
-                    FROM users u
-                    LEFT JOIN addresses a ON u.address_id = a.id
-                    WHERE u.username = ?
-                """;
-
-        try {
-            User user = jdbcClient.sql(sql)
-                    .param(username)
-                    .query(mapper::mapRow)
-                    .single();
-
-            // IMPORTANT: Load roles for the user
-            List<Role> roles = findRolesByUserId(user.getId());
-
-            // Reconstruct user with roles
-            return Optional.of(User.reconstruct(
-                    user.getId(),
-                    user.getName(),
-                    user.getEmail(),
-                    user.getUsername(),
-                    user.getPassword(),
-                    user.getAddress(),
-                    roles,  // Make sure roles are included
-                    user.isEnabled(),
-                    user.getCreatedAt(),
-                    user.getUpdatedAt()
-            ));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return jdbcClient.sql(SELECT_USER + "WHERE u.username = :username")
+                .param("username", username)
+                .query(mapper::mapRow)
+                .optional();
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        Optional<User> userOpt = jdbcClient.sql("""
-                            SELECT u.id, u.name, u.email, u.username, u.password, u.enabled,
-                                   u.created_at, u.updated_at,
-                                   a.street, a.city, a.state, a.zip_code
-                            FROM users u
-                            LEFT JOIN addresses a ON u.address_id = a.id
-                            WHERE u.email = :email
-                        """)
+        return jdbcClient.sql(SELECT_USER + "WHERE u.email = :email")
                 .param("email", email)
                 .query(mapper::mapRow)
                 .optional();
-
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            List<Role> roles = findRolesByUserId(user.getId());
-            // Reconstruct with roles
-            User userWithRoles = User.reconstruct(
-                    user.getId(),
-                    user.getName(),
-                    user.getEmail(),
-                    user.getUsername(),
-                    user.getPassword(),
-                    user.getAddress(),
-                    roles,
-                    user.isEnabled(),
-                    user.getCreatedAt(),
-                    user.getUpdatedAt()
-            );
-            return Optional.of(userWithRoles);
-        }
-
-        return Optional.empty();
     }
 
     @Override
-    public List<User> findAll(int page, int size) {
-        int offset = page * size;
-        List<User> users = jdbcClient.sql("""
-                            SELECT u.id, u.name, u.email, u.username, u.password, u.enabled,
-                                   u.created_at, u.updated_at,
-                                   a.street, a.city, a.state, a.zip_code
-                            FROM users u
-                            LEFT JOIN addresses a ON u.address_id = a.id
-                            LIMIT :size OFFSET :offset
-                        """)
-                .param("size", size)
-                .param("offset", offset)
-                .query(mapper::mapRow)
-                .list();
-
-        // Load roles for each user
-        return users.stream()
-                .map(user -> {
-                    List<Role> roles = findRolesByUserId(user.getId());
-                    return User.reconstruct(
-                            user.getId(),
-                            user.getName(),
-                            user.getEmail(),
-                            user.getUsername(),
-                            user.getPassword(),
-                            user.getAddress(),
-                            roles,
-                            user.isEnabled(),
-                            user.getCreatedAt(),
-                            user.getUpdatedAt()
-                    );
-                })
-                .toList();
+    public PageResult<User> findAll(int page, int size) {
+        String sql = "SELECT " + USER_COLUMNS + FROM_USERS + """
+                            ORDER BY u.id
+                            LIMIT :limit OFFSET :offset
+                        """;
+        return PagedQuery.fetch(jdbcClient.sql(sql), mapper::mapRow, page, size);
     }
 
     @Override
-    public List<User> findByRole(Long roleId, int page, int size) {
-        int offset = page * size;
-        List<User> users = jdbcClient.sql("""
-                            SELECT u.id, u.name, u.email, u.username, u.password, u.enabled,
-                                   u.created_at, u.updated_at,
-                                   a.street, a.city, a.state, a.zip_code
-                            FROM users u
-                            LEFT JOIN addresses a ON u.address_id = a.id
-                            JOIN user_roles ur ON u.id = ur.user_id
-                            WHERE ur.role_id = :roleId
-                            LIMIT :size OFFSET :offset
-                        """)
-                .param("roleId", roleId)
-                .param("size", size)
-                .param("offset", offset)
-                .query(mapper::mapRow)
-                .list();
-
-        // Load roles for each user
-        return users.stream()
-                .map(user -> {
-                    List<Role> roles = findRolesByUserId(user.getId());
-                    return User.reconstruct(
-                            user.getId(),
-                            user.getName(),
-                            user.getEmail(),
-                            user.getUsername(),
-                            user.getPassword(),
-                            user.getAddress(),
-                            roles,
-                            user.isEnabled(),
-                            user.getCreatedAt(),
-                            user.getUpdatedAt()
-                    );
-                })
-                .toList();
+    public PageResult<User> findByRole(Long roleId, int page, int size) {
+        String sql = "SELECT " + USER_COLUMNS + FROM_USERS + HAS_ROLE + """
+                            ORDER BY u.id
+                            LIMIT :limit OFFSET :offset
+                        """;
+        return PagedQuery.fetch(jdbcClient.sql(sql).param("roleId", roleId), mapper::mapRow, page, size);
     }
 
     @Override
@@ -313,6 +210,14 @@ public class UserRepositoryAdapter implements UserRepository {
                 .single();
     }
 
+    @Override
+    public long countByRole(Long roleId) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM user_roles WHERE role_id = :roleId")
+                .param("roleId", roleId)
+                .query(Long.class)
+                .single();
+    }
+
     @Override
     public void delete(User user) {
         // Business rule: Check if user owns any restaurants
@@ -362,35 +267,31 @@ public class UserRepositoryAdapter implements UserRepository {
                 .single() > 0;
     }
 
-    // Helper methods
-    private List<Role> findRolesByUserId(Long userId) {
-        return jdbcClient.sql("""
-                            SELECT r.id, r.name
-                            FROM roles r
-                            JOIN user_roles ur ON ur.role_id = r.id
-                            WHERE ur.user_id = :userId
-                        """)
-                .param("userId", userId)
-                .query((rs, rowNum) -> Role.fromId(rs.getLong("id")))
-                .list();
+    @Override
+    public boolean replacePassword(Long id, String expectedPassword, String newPassword) {
+        return jdbcClient.sql("UPDATE users SET password = :newPassword WHERE id = :id AND password = :expectedPassword")
+                .param("id", id)
+                .param("expectedPassword", expectedPassword)
+                .param("newPassword", newPassword)
+                .update() > 0;
     }
 
-    private void insertUserRoles(Long userId, List<Role> roles) {
-        for (Role role : roles) {
-            jdbcClient.sql("""
-                                INSERT INTO user_roles (user_id, role_id)
-                                VALUES (:userId, :roleId)
-                            """)
-                    .param("userId", userId)
-                    .param("roleId", role.getId())
-                    .update();
+    // Helper methods
+    private JdbcClient.StatementSpec addressParams(JdbcClient.StatementSpec statement, User user) {
+        if (user.getAddress() == null) {
+            return statement;
         }
+        return statement
+                .param("street", user.getAddress().getStreet())
+                .param("city", user.getAddress().getCity())
+                .param("state", user.getAddress().getState())
+                .param("zipCode", user.getAddress().getZipCode());
     }
 
-    private void updateUserRoles(Long userId, List<Role> roles) {
-        jdbcClient.sql("DELETE FROM user_roles WHERE user_id = :userId")
-                .param("userId", userId)
-                .update();
-        insertUserRoles(userId, roles);
+    // Bound as a single BIGINT[] parameter so the statement text does not vary with the number of roles
+    private Long[] roleIds(List<Role> roles) {
+        return roles.stream()
+                .map(Role::getId)
+                .toArray(Long[]::new);
     }
 }
@@ -0,0 +1,188 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the open authentication endpoints before any password is hashed: one token bucket per client
+ * IP, and one per username named in the JSON body. An exhausted bucket answers 429 with Retry-After, and a
+ * body over MAX_BUFFERED_BODY answers 413, since its username could not be limited.
+ * The client IP is the remote address; behind a proxy, enable forwarded headers so it is the client's.
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    static final Set<String> PATHS = Set.of("/api/login", "/api/token/refresh", "/api/change-password",
+            "/api/users/register");
+
+    // Credentials are tiny; a larger body is refused rather than forwarded without its username being limited
+    static final int MAX_BUFFERED_BODY = 8 * 1024;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TOO_MANY_REQUESTS = "{\"message\":\"Too many requests, please retry later\"}";
+    private static final String BODY_TOO_LARGE = "{\"message\":\"Request body is too large\"}";
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter usernameLimiter;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    public AuthRateLimitFilter(TokenBucketRateLimiter ipLimiter, TokenBucketRateLimiter usernameLimiter,
+                               MeterRegistry meterRegistry) {
+        this.ipLimiter = ipLimiter;
+        this.usernameLimiter = usernameLimiter;
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.usernameRejections = rejections(meterRegistry, "username");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod()) || !PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            ipRejections.increment();
+            reject(response, wait);
+            return;
+        }
+
+        if (request.getContentLengthLong() > MAX_BUFFERED_BODY) {
+            respond(response, HttpStatus.PAYLOAD_TOO_LARGE, BODY_TOO_LARGE);
+            return;
+        }
+        // Chunked bodies declare no length: read one byte past the limit to spot those that overflow it
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        if (cached.body.length > MAX_BUFFERED_BODY) {
+            respond(response, HttpStatus.PAYLOAD_TOO_LARGE, BODY_TOO_LARGE);
+            return;
+        }
+
+        String username = username(cached.body);
+        if (username != null) {
+            wait = usernameLimiter.tryAcquire(username.toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                usernameRejections.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cached, response);
+    }
+
+    // Malformed bodies are left for the controller to reject
+    private static String username(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode username = OBJECT_MAPPER.readTree(body).path("username");
+            return username.isTextual() && !username.asText().isBlank() ? username.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+        respond(response, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS);
+    }
+
+    private static void respond(HttpServletResponse response, HttpStatus status, String body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(body);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.rate-limit.rejected")
+                .description("Authentication requests refused by the rate limiter")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Request whose body was read up front, so the controller can read it again
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(MAX_BUFFERED_BODY + 1);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is in memory: it is available, and then all read, right away
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+/**
+ * Picks the BCrypt cost for this machine: the highest cost whose hash still takes at most the target time.
+ * Each cost step doubles the work, so one measurement at minCost predicts every other cost.
+ */
+final class BCryptCostCalibrator {
+
+    // BCrypt itself accepts 4 to 31
+    static final int LOWEST_COST = 4;
+    static final int HIGHEST_COST = 31;
+
+    private static final int SAMPLES = 3;
+
+    private final IntFunction<Duration> hashTime;
+
+    BCryptCostCalibrator() {
+        this(BCryptCostCalibrator::measure);
+    }
+
+    BCryptCostCalibrator(IntFunction<Duration> hashTime) {
+        this.hashTime = hashTime;
+    }
+
+    /**
+     * @return a cost within [minCost, maxCost]; minCost when even that exceeds the target
+     */
+    int calibrate(Duration target, int minCost, int maxCost) {
+        if (minCost < LOWEST_COST || maxCost > HIGHEST_COST || minCost > maxCost) {
+            throw new IllegalArgumentException("BCrypt costs must satisfy "
+                    + LOWEST_COST + " <= min-cost <= max-cost <= " + HIGHEST_COST);
+        }
+
+        // The first hash pays for class loading and JIT warm-up; the fastest sample is the least disturbed one
+        hashTime.apply(minCost);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            fastest = Math.min(fastest, hashTime.apply(minCost).toNanos());
+        }
+
+        int cost = minCost;
+        long estimate = Math.max(fastest, 1);
+        while (cost < maxCost && estimate * 2 <= target.toNanos()) {
+            cost++;
+            estimate *= 2;
+        }
+        return cost;
+    }
+
+    private static Duration measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
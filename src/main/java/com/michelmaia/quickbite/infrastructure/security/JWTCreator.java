@@ -48,7 +48,8 @@ public class JWTCreator {
     }
 
     /**
-     * Parses a JWT token and extracts the JWT object
+     * Parses a JWT token and extracts the JWT object.
+     * Builds the key and parser on every call; the request path uses {@link JWTVerifier}.
      */
     public static JWTObject create(String token, String prefix, String key) {
         validateParseParameters(token, prefix, key);
@@ -1,5 +1,4 @@
 package com.michelmaia.quickbite.infrastructure.security;
-import com.michelmaia.quickbite.domain.user.entity.Role;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -10,19 +9,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final SecurityConfig securityConfig;
+    private final JWTVerifier jwtVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JWTFilter(SecurityConfig securityConfig) {
-        this.securityConfig = securityConfig;
+    public JWTFilter(JWTVerifier jwtVerifier, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtVerifier = jwtVerifier;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -33,16 +32,8 @@ public class JWTFilter extends OncePerRequestFilter {
         // This implementation only validates the integrity of the token
         try {
             if(token!=null && !token.isEmpty()) {
-                JWTObject tokenObject = JWTCreator.create(token,securityConfig.getPrefix()
-                        , securityConfig.getKey());
-
-                List<SimpleGrantedAuthority> authorities = authorities(tokenObject.getRoles());
-
-                UsernamePasswordAuthenticationToken userToken =
-                        new UsernamePasswordAuthenticationToken(
-                                tokenObject.getSubject(),
-                                null,
-                                authorities);
+                // A token seen before skips signature verification until it expires
+                UsernamePasswordAuthenticationToken userToken = verifiedTokenCache.get(token, jwtVerifier::verify);
 
                 SecurityContextHolder.getContext().setAuthentication(userToken);
 
@@ -55,10 +46,4 @@ public class JWTFilter extends OncePerRequestFilter {
             response.setStatus(HttpStatus.FORBIDDEN.value());
         }
     }
-    private List<SimpleGrantedAuthority> authorities(List<Role> roles){
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
-                .toList();
-    }
-
 }
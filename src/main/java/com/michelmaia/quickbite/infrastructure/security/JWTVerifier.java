@@ -0,0 +1,123 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.michelmaia.quickbite.domain.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies bearer tokens on the request path.
+ * The signing key and parser are built once (JJWT parsers are immutable and thread-safe),
+ * and authorities come from lists shared by every token with the same roles.
+ */
+public class JWTVerifier {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final Role[] ROLES = Role.values();
+
+    // Claim values ("ROLE_OWNER" or "OWNER") resolved without string manipulation
+    private static final Map<String, Role> ROLES_BY_CLAIM = rolesByClaim();
+
+    // One immutable authority list per role combination, indexed by role bitmask
+    private static final List<List<GrantedAuthority>> AUTHORITIES = authorityLists();
+
+    private final String headerPrefix;
+    private final JwtParser parser;
+
+    public JWTVerifier(String prefix, String key) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix cannot be null or empty");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        this.headerPrefix = prefix + " ";
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration of an Authorization header value; a token without one is malformed
+     */
+    public VerifiedToken verify(String header) {
+        if (!header.startsWith(headerPrefix)) {
+            throw new IllegalArgumentException("Token does not start with expected prefix");
+        }
+
+        Claims claims = parser.parseSignedClaims(header.substring(headerPrefix.length())).getPayload();
+        // Tokens are only ever issued with an expiration; one without would be valid (and cached) forever
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no expiration");
+        }
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getExpiration(),
+                authorities(claims.get(JWTCreator.ROLES_AUTHORITIES))
+        );
+    }
+
+    static List<GrantedAuthority> authorities(Object claim) {
+        if (!(claim instanceof List<?> names)) {
+            return AUTHORITIES.get(0);
+        }
+
+        int mask = 0;
+        for (int i = 0; i < names.size(); i++) {
+            Role role = names.get(i) instanceof String name ? ROLES_BY_CLAIM.get(name) : null;
+            if (role != null) {
+                mask |= 1 << role.ordinal();
+            }
+        }
+        return AUTHORITIES.get(mask);
+    }
+
+    private static Map<String, Role> rolesByClaim() {
+        Map<String, Role> roles = new HashMap<>();
+        for (Role role : ROLES) {
+            roles.put(role.getName(), role);
+            roles.put(ROLE_PREFIX + role.getName(), role);
+        }
+        return Map.copyOf(roles);
+    }
+
+    private static List<List<GrantedAuthority>> authorityLists() {
+        List<GrantedAuthority> single = new ArrayList<>();
+        for (Role role : ROLES) {
+            single.add(new SimpleGrantedAuthority(ROLE_PREFIX + role.getName()));
+        }
+
+        List<List<GrantedAuthority>> lists = new ArrayList<>();
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & 1 << role.ordinal()) != 0) {
+                    authorities.add(single.get(role.ordinal()));
+                }
+            }
+            lists.add(List.copyOf(authorities));
+        }
+        return List.copyOf(lists);
+    }
+
+    public record VerifiedToken(String subject, Date expiration, List<GrantedAuthority> authorities) {
+
+        public UsernamePasswordAuthenticationToken toAuthentication() {
+            return new UsernamePasswordAuthenticationToken(subject, null, authorities);
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.michelmaia.quickbite.infrastructure.security;
 import com.michelmaia.quickbite.application.service.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import java.util.function.Consumer;
 /**
  * Infrastructure Adapter: Implements password encoding using Spring Security
+ * Hashing runs on the bounded PasswordHashingExecutor rather than on the request thread.
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoder {
     private final org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder;
-    public PasswordEncoderAdapter(org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder) {
+    private final PasswordHashingExecutor hashingExecutor;
+    public PasswordEncoderAdapter(org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder,
+                                  PasswordHashingExecutor hashingExecutor) {
         this.springPasswordEncoder = springPasswordEncoder;
+        this.hashingExecutor = hashingExecutor;
     }
     @Override
     public String encode(String rawPassword) {
-        return springPasswordEncoder.encode(rawPassword);
+        return hashingExecutor.execute(() -> springPasswordEncoder.encode(rawPassword));
     }
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return springPasswordEncoder.matches(rawPassword, encodedPassword);
+        return hashingExecutor.execute(() -> springPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return springPasswordEncoder.upgradeEncoding(encodedPassword);
+    }
+    @Override
+    public void encodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        hashingExecutor.submitIfIdle(() -> onEncoded.accept(springPasswordEncoder.encode(rawPassword)));
     }
 }
\ No newline at end of file
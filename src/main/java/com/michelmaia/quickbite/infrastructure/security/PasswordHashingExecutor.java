@@ -0,0 +1,138 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.michelmaia.quickbite.domain.auth.exception.AuthenticationOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a fixed pool with a bounded queue, so a burst of logins occupies at most
+ * poolSize cores and poolSize + queueCapacity request threads; every other request thread stays free.
+ * A hash that finds the queue full, or does not complete within the timeout, fails fast with
+ * AuthenticationOverloadedException instead of piling up.
+ */
+public class PasswordHashingExecutor implements AutoCloseable {
+
+    public static final String METRIC_PREFIX = "password.hashing";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(int poolSize, int queueCapacity, Duration timeout, Duration retryAfter,
+                                   MeterRegistry meterRegistry) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        AtomicInteger threads = new AtomicInteger();
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        Gauge.builder(METRIC_PREFIX + ".queue", queue, BlockingQueue::size)
+                .description("Password hashes waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes running")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time a password hash waited in the queue")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent computing a password hash")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashes refused because the queue was full or the wait timed out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the hashing work on the pool and waits for its result on the calling thread
+     */
+    public <T> T execute(Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new AuthenticationOverloadedException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A hash still queued is dropped without running; one already running finishes unobserved
+            future.cancel(true);
+            rejected.increment();
+            throw new AuthenticationOverloadedException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs background hashing work only when nothing is queued, so it never takes a slot a caller
+     * waiting on a hash could use; returns false when the work was dropped
+     */
+    public boolean submitIfIdle(Runnable work) {
+        if (!executor.getQueue().isEmpty()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    durationTimer.record(work);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Background password hashing failed", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -1,13 +1,21 @@
 package com.michelmaia.quickbite.infrastructure.security;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 public class SecurityConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityConfig.class);
     
     @Value("${security.config.prefix}")
     private String prefix;
@@ -18,6 +26,57 @@ public class SecurityConfig {
     @Value("${security.config.expiration}")
     private Long expiration;
 
+    @Value("${security.config.refresh-expiration:2592000000}")
+    private long refreshExpiration;
+
+    @Value("${security.config.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    @Value("${security.config.token-cache.max-ttl:600000}")
+    private long tokenCacheMaxTtl;
+
+    // 0 sizes the hashing pool to the available processors
+    @Value("${security.hashing.pool-size:0}")
+    private int hashingPoolSize;
+
+    @Value("${security.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${security.hashing.timeout:2000}")
+    private long hashingTimeout;
+
+    @Value("${security.hashing.retry-after:1}")
+    private long hashingRetryAfter;
+
+    // A fixed cost skips calibration; 0 picks the cost hitting target-latency (ms) on this machine
+    @Value("${security.hashing.cost:0}")
+    private int hashingCost;
+
+    @Value("${security.hashing.target-latency:100}")
+    private long hashingTargetLatency;
+
+    @Value("${security.hashing.min-cost:10}")
+    private int hashingMinCost;
+
+    @Value("${security.hashing.max-cost:16}")
+    private int hashingMaxCost;
+
+    // Slots are shared by all keys of one kind, so memory stays fixed however many clients show up
+    @Value("${security.rate-limit.slots:65536}")
+    private int rateLimitSlots;
+
+    @Value("${security.rate-limit.ip.capacity:30}")
+    private int ipRateLimitCapacity;
+
+    @Value("${security.rate-limit.ip.refill-period:60000}")
+    private long ipRateLimitRefillPeriod;
+
+    @Value("${security.rate-limit.username.capacity:10}")
+    private int usernameRateLimitCapacity;
+
+    @Value("${security.rate-limit.username.refill-period:60000}")
+    private long usernameRateLimitRefillPeriod;
+
     // Getters for accessing the values
     public String getPrefix() {
         return prefix;
@@ -31,8 +90,53 @@ public class SecurityConfig {
         return expiration;
     }
 
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    @Bean
+    public JWTVerifier jwtVerifier() {
+        return new JWTVerifier(prefix, key);
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(MeterRegistry meterRegistry) {
+        return new VerifiedTokenCache(tokenCacheMaximumSize, tokenCacheMaxTtl, meterRegistry);
+    }
+
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor(MeterRegistry meterRegistry) {
+        int poolSize = hashingPoolSize > 0 ? hashingPoolSize : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingExecutor(poolSize, hashingQueueCapacity, Duration.ofMillis(hashingTimeout),
+                Duration.ofSeconds(hashingRetryAfter), meterRegistry);
+    }
+
+    @Bean
+    public TokenBucketRateLimiter ipRateLimiter() {
+        return new TokenBucketRateLimiter(ipRateLimitCapacity, Duration.ofMillis(ipRateLimitRefillPeriod), rateLimitSlots);
+    }
+
+    @Bean
+    public TokenBucketRateLimiter usernameRateLimiter() {
+        return new TokenBucketRateLimiter(usernameRateLimitCapacity,
+                Duration.ofMillis(usernameRateLimitRefillPeriod), rateLimitSlots);
+    }
+
+    /**
+     * Stored hashes made with a lower cost are upgraded on the owner's next login
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int cost = hashingCost;
+        if (cost == 0) {
+            cost = new BCryptCostCalibrator().calibrate(
+                    Duration.ofMillis(hashingTargetLatency), hashingMinCost, hashingMaxCost);
+            LOGGER.info("Calibrated BCrypt cost {} for a target of {} ms", cost, hashingTargetLatency);
+        }
+        int chosenCost = cost;
+        Gauge.builder(PasswordHashingExecutor.METRIC_PREFIX + ".cost", () -> chosenCost)
+                .description("BCrypt cost of new password hashes")
+                .register(meterRegistry);
+        return new BCryptPasswordEncoder(chosenCost);
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets for any number of keys in fixed memory.
+ * Keys hash, under a per-process random seed, into a fixed array of slots; each slot is one bucket kept
+ * in GCRA form, a single long holding the theoretical arrival time of the next request, updated by CAS.
+ * Keys that share a slot share its bucket, which only makes their limit stricter; with far more slots
+ * than active keys that is rare, and the seed keeps clients from choosing whom they collide with.
+ */
+public class TokenBucketRateLimiter {
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long seed;
+    // Time between two tokens, and how far ahead of now a full bucket lets arrivals run
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final LongSupplier clock;
+
+    /**
+     * @param capacity tokens a full bucket holds
+     * @param period   time to refill an empty bucket
+     * @param slots    number of buckets, rounded up to a power of two
+     */
+    public TokenBucketRateLimiter(int capacity, Duration period, int slots) {
+        this(capacity, period, slots, new SecureRandom().nextLong(), monotonicClock());
+    }
+
+    TokenBucketRateLimiter(int capacity, Duration period, int slots, long seed, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Refill period must be positive");
+        }
+        if (slots < 1 || slots > 1 << 30) {
+            throw new IllegalArgumentException("Slots must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(slots) == slots ? slots : Integer.highestOneBit(slots) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.seed = seed;
+        this.emissionInterval = Math.max(1, period.toNanos() / capacity);
+        this.burstTolerance = emissionInterval * (capacity - 1);
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a token from the key's bucket
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public long tryAcquire(String key) {
+        int slot = slot(key);
+        long now = clock.getAsLong();
+        while (true) {
+            long stored = slots.get(slot);
+            long arrival = Math.max(stored, now);
+            long wait = arrival - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (slots.compareAndSet(slot, stored, arrival + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+
+    int slot(String key) {
+        // FNV-1a over the UTF-8 bytes, started from the seed, then the MurmurHash3 finalizer
+        long hash = seed ^ 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    // Starts at zero, so an untouched slot (0) always reads as a full bucket
+    private static LongSupplier monotonicClock() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+}
@@ -6,7 +6,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
@@ -18,6 +24,9 @@ public class TokenGeneratorAdapter implements TokenGenerator {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(TokenGeneratorAdapter.class);
     
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    
     private final SecurityConfig securityConfig;
     
     public TokenGeneratorAdapter(SecurityConfig securityConfig) {
@@ -54,4 +63,28 @@ public class TokenGeneratorAdapter implements TokenGenerator {
     public long getExpirationTime() {
         return securityConfig.getExpiration();
     }
+    
+    @Override
+    public String generateRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
+    // A fast digest is enough: unlike passwords, refresh tokens carry 256 random bits
+    @Override
+    public String hashRefreshToken(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    @Override
+    public long getRefreshExpirationTime() {
+        return securityConfig.getRefreshExpiration();
+    }
 }
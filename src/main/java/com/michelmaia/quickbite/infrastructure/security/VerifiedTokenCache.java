@@ -0,0 +1,91 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already verified bearer tokens.
+ * Keys are SHA-256 digests so raw tokens are never retained; an entry lives until the
+ * token's own expiration, capped by the configured TTL. Only the verified claims are cached:
+ * every request gets its own authentication, so nothing one request does to it reaches another.
+ */
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final Cache<ByteBuffer, JWTVerifier.VerifiedToken> cache;
+
+    public VerifiedTokenCache(long maximumSize, long maxTtlMillis, MeterRegistry meterRegistry) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        if (maxTtlMillis <= 0) {
+            throw new IllegalArgumentException("Max TTL must be positive");
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpires(TimeUnit.MILLISECONDS.toNanos(maxTtlMillis)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns a new authentication built from the header's cached claims, verifying it on a miss.
+     * Verification failures propagate and nothing is cached for them.
+     */
+    public UsernamePasswordAuthenticationToken get(String header,
+                                                   Function<String, JWTVerifier.VerifiedToken> verifier) {
+        return cache.get(digest(header), key -> verifier.apply(header)).toAuthentication();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer digest(String header) {
+        return ByteBuffer.wrap(SHA_256.get().digest(header.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private record UntilTokenExpires(long maxTtlNanos) implements Expiry<ByteBuffer, JWTVerifier.VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JWTVerifier.VerifiedToken value, long currentTime) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(value.expiration().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JWTVerifier.VerifiedToken value, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JWTVerifier.VerifiedToken value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
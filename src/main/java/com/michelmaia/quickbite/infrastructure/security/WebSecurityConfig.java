@@ -1,5 +1,8 @@
 package com.michelmaia.quickbite.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,12 +18,23 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true)
 public class WebSecurityConfig {
 
-    private final SecurityConfig securityConfig;
+    private final JWTVerifier jwtVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthRateLimitFilter authRateLimitFilter;
     private static final String ADMIN_ROLE = "ADMIN";
     private static final String OWNER_ROLE = "OWNER";
 
-    public WebSecurityConfig(SecurityConfig securityConfig) {
-        this.securityConfig = securityConfig;
+    public WebSecurityConfig(JWTVerifier jwtVerifier, VerifiedTokenCache verifiedTokenCache,
+                             @Qualifier("ipRateLimiter") TokenBucketRateLimiter ipRateLimiter,
+                             @Qualifier("usernameRateLimiter") TokenBucketRateLimiter usernameRateLimiter,
+                             MeterRegistry meterRegistry,
+                             @Value("${security.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        this.jwtVerifier = jwtVerifier;
+        this.verifiedTokenCache = verifiedTokenCache;
+        // Not a bean, so the servlet container does not register it a second time outside the security chain
+        this.authRateLimitFilter = rateLimitEnabled
+                ? new AuthRateLimitFilter(ipRateLimiter, usernameRateLimiter, meterRegistry)
+                : null;
     }
 
     private static final String[] SWAGGER_WHITELIST = {
@@ -33,15 +47,21 @@ public class WebSecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (authRateLimitFilter != null) {
+            http.addFilterBefore(authRateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+        }
         return http
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> {})
-                .addFilterAfter(new JWTFilter(securityConfig), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JWTFilter(jwtVerifier, verifiedTokenCache), UsernamePasswordAuthenticationFilter.class)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(ADMIN_ROLE)
                         .requestMatchers(HttpMethod.POST, "/api/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/token/refresh").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/change-password").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/users/register").permitAll() // Allow registration
                         .requestMatchers(HttpMethod.POST, "/api/users").hasRole(ADMIN_ROLE) // Only admins can create users directly
@@ -49,6 +69,7 @@ public class WebSecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/users/**").hasAnyRole("USER", ADMIN_ROLE)
                         .requestMatchers(HttpMethod.GET, "/api/restaurants").hasAnyRole("USER", OWNER_ROLE, ADMIN_ROLE)
                         .requestMatchers(HttpMethod.GET, "/api/restaurants/**").hasAnyRole("USER", OWNER_ROLE, ADMIN_ROLE)
+                        .requestMatchers(HttpMethod.POST, "/api/restaurants/*/reviews").hasAnyRole("USER", OWNER_ROLE, ADMIN_ROLE)
                         .requestMatchers(HttpMethod.POST, "/api/restaurants/**").hasAnyRole(OWNER_ROLE, ADMIN_ROLE)
                         .requestMatchers(HttpMethod.PUT, "/api/restaurants/**").hasAnyRole(OWNER_ROLE, ADMIN_ROLE)
                         .requestMatchers(HttpMethod.DELETE, "/api/restaurants/**").hasAnyRole(OWNER_ROLE, ADMIN_ROLE)
@@ -2,9 +2,11 @@ package com.michelmaia.quickbite.presentation.rest.auth;
 
 import com.michelmaia.quickbite.application.usecase.auth.ChangePasswordUseCase;
 import com.michelmaia.quickbite.application.usecase.auth.LoginUseCase;
+import com.michelmaia.quickbite.application.usecase.auth.RefreshTokenUseCase;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.ChangePasswordRequest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginRequest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginResponse;
+import com.michelmaia.quickbite.presentation.rest.auth.dto.RefreshTokenRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -23,7 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Presentation Layer: Authentication Controller
- * Handles login and password management endpoints
+ * Handles login, token refresh and password management endpoints
  */
 @RestController
 @RequestMapping("/api")
@@ -33,19 +35,22 @@ public class AuthController {
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthController.class);
     
     private final LoginUseCase loginUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
     private final ChangePasswordUseCase changePasswordUseCase;
     
     public AuthController(
             LoginUseCase loginUseCase,
+            RefreshTokenUseCase refreshTokenUseCase,
             ChangePasswordUseCase changePasswordUseCase) {
         this.loginUseCase = loginUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
         this.changePasswordUseCase = changePasswordUseCase;
     }
     
     @PostMapping("/login")
     @Operation(
         summary = "User Login",
-        description = "**OPEN ROUTE** - Authenticate a user and return a JWT token."
+        description = "**OPEN ROUTE** - Authenticate a user and return a JWT token and a refresh token."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -76,13 +81,52 @@ public class AuthController {
         
         LoginResponse response = new LoginResponse(
             result.token(),
-            result.username()
+            result.username(),
+            result.refreshToken()
         );
         
         LOGGER.info("POST -> /api/login - Successful login for user: {}", request.username());
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/token/refresh")
+    @Operation(
+        summary = "Refresh Token",
+        description = "**OPEN ROUTE** - Exchange a refresh token for a new JWT token and the next refresh token. "
+            + "A refresh token works once; reusing one revokes every token issued since its login."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tokens refreshed",
+            content = @Content(schema = @Schema(implementation = LoginResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unknown, expired, revoked or already used refresh token",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Invalid Refresh Token",
+                    value = "{\"message\": \"Invalid or expired refresh token\"}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LOGGER.info("POST -> /api/token/refresh - Refreshing tokens");
+        
+        var command = new RefreshTokenUseCase.RefreshCommand(request.refreshToken());
+        
+        LoginUseCase.LoginResult result = refreshTokenUseCase.execute(command);
+        
+        LOGGER.info("POST -> /api/token/refresh - Tokens refreshed for user: {}", result.username());
+        return ResponseEntity.ok(new LoginResponse(
+            result.token(),
+            result.username(),
+            result.refreshToken()
+        ));
+    }
+    
     @PostMapping("/change-password")
     @Operation(
         summary = "Change Password",
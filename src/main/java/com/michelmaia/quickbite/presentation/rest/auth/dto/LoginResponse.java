@@ -1,9 +1,11 @@
 package com.michelmaia.quickbite.presentation.rest.auth.dto;
 
 /**
- * Response DTO for successful login
+ * Response DTO for successful login or token refresh
+ * The refresh token is single-use: each refresh returns the one to use next.
  */
 public record LoginResponse(
     String token,
-    String username
+    String username,
+    String refreshToken
 ) {}
@@ -0,0 +1,11 @@
+package com.michelmaia.quickbite.presentation.rest.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request DTO for exchanging a refresh token
+ */
+public record RefreshTokenRequest(
+    @NotBlank(message = "Refresh token is required")
+    String refreshToken
+) {}
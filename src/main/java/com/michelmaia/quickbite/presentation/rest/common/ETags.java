@@ -0,0 +1,66 @@
+package com.michelmaia.quickbite.presentation.rest.common;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Strong entity tags for conditional GETs
+ * Single resources are tagged by id and updated_at (or a version), lists by a digest of their members
+ */
+public final class ETags {
+
+    // Clients may keep the response but must revalidate it with If-None-Match before reuse
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static String of(String kind, Long id, LocalDateTime updatedAt) {
+        return quote(kind + "-" + id + "-" + micros(updatedAt));
+    }
+
+    public static String ofVersion(String kind, Long id, long version) {
+        return quote(kind + "-" + id + "-v" + version);
+    }
+
+    /**
+     * @param metadata page fields that are part of the representation (totals, cursors, ...)
+     */
+    public static <T> String ofList(String kind, List<T> items, Function<T, Long> id,
+                                    Function<T, LocalDateTime> updatedAt, Object... metadata) {
+        MessageDigest digest = sha256();
+        for (T item : items) {
+            digest.update((id.apply(item) + ":" + micros(updatedAt.apply(item)) + ";")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        for (Object value : metadata) {
+            digest.update((value + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        return quote(kind + "-" + HexFormat.of().formatHex(digest.digest(), 0, 16));
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
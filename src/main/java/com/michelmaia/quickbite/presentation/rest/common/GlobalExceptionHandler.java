@@ -1,18 +1,25 @@
 package com.michelmaia.quickbite.presentation.rest.common;
 
 import com.michelmaia.quickbite.domain.auth.exception.AccountDisabledException;
+import com.michelmaia.quickbite.domain.auth.exception.AuthenticationOverloadedException;
 import com.michelmaia.quickbite.domain.auth.exception.InvalidCredentialsException;
+import com.michelmaia.quickbite.domain.auth.exception.InvalidRefreshTokenException;
 import com.michelmaia.quickbite.domain.menuitem.exception.InvalidMenuItemDataException;
 import com.michelmaia.quickbite.domain.menuitem.exception.MenuItemNotFoundException;
 import com.michelmaia.quickbite.domain.restaurant.exception.InvalidRestaurantDataException;
 import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
 import com.michelmaia.quickbite.domain.restaurant.exception.UnauthorizedRestaurantAccessException;
 import com.michelmaia.quickbite.domain.restaurant.exception.UnauthorizedRestaurantOwnerException;
+import com.michelmaia.quickbite.domain.review.exception.InvalidReviewDataException;
+import com.michelmaia.quickbite.domain.review.exception.ReviewAlreadyExistsException;
 import com.michelmaia.quickbite.domain.user.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -40,6 +47,14 @@ public class GlobalExceptionHandler {
             .body(new ErrorDTO(ex.getMessage()));
     }
     
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        LOGGER.warn("Invalid refresh token: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.UNAUTHORIZED)
+            .body(new ErrorDTO(ex.getMessage()));
+    }
+    
     @ExceptionHandler(AccountDisabledException.class)
     public ResponseEntity<ErrorDTO> handleAccountDisabled(AccountDisabledException ex) {
         LOGGER.warn("Account disabled: {}", ex.getMessage());
@@ -48,6 +63,15 @@ public class GlobalExceptionHandler {
             .body(new ErrorDTO(ex.getMessage()));
     }
     
+    @ExceptionHandler(AuthenticationOverloadedException.class)
+    public ResponseEntity<ErrorDTO> handleAuthenticationOverloaded(AuthenticationOverloadedException ex) {
+        LOGGER.warn("Authentication overloaded: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(new ErrorDTO(ex.getMessage()));
+    }
+    
     // ========== User Exceptions ==========
     
     @ExceptionHandler(UserNotFoundException.class)
@@ -117,6 +141,14 @@ public class GlobalExceptionHandler {
             .body(new ErrorDTO(ex.getMessage()));
     }
     
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<ErrorDTO> handleQueryTimeout(RuntimeException ex) {
+        LOGGER.warn("Query timed out: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ErrorDTO("The request took too long, please retry later"));
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDTO> handleGenericException(Exception ex) {
         LOGGER.error("Unexpected error", ex);
@@ -176,4 +208,22 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorDTO(ex.getMessage()));
     }
+
+    // ========== Review Exceptions ==========
+
+    @ExceptionHandler(ReviewAlreadyExistsException.class)
+    public ResponseEntity<ErrorDTO> handleReviewAlreadyExists(ReviewAlreadyExistsException ex) {
+        LOGGER.warn("Review already exists: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorDTO(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidReviewDataException.class)
+    public ResponseEntity<ErrorDTO> handleInvalidReviewData(InvalidReviewDataException ex) {
+        LOGGER.warn("Invalid review data: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorDTO(ex.getMessage()));
+    }
 }
@@ -1,8 +1,15 @@
 package com.michelmaia.quickbite.presentation.rest.menuitem;
 
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
 import com.michelmaia.quickbite.application.usecase.menuitem.*;
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
 import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.presentation.rest.common.ETags;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkImportResponse;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkMenuItemRequest;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.CreateMenuItemRequest;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.DishResponse;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.MenuItemResponse;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.UpdateMenuItemRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,10 +21,14 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -31,22 +42,35 @@ import java.util.List;
 public class MenuItemController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MenuItemController.class);
+    private static final String MENU_ETAG = "menu";
+    private static final String MENU_ITEM_ETAG = "menu-item";
+
+    private static final String TEXT_CSV = "text/csv";
 
     private final CreateMenuItemUseCase createMenuItemUseCase;
+    private final ImportMenuItemsUseCase importMenuItemsUseCase;
     private final GetMenuItemUseCase getMenuItemUseCase;
     private final ListMenuItemsUseCase listMenuItemsUseCase;
+    private final SearchMenuItemsUseCase searchMenuItemsUseCase;
+    private final SearchDishesUseCase searchDishesUseCase;
     private final UpdateMenuItemUseCase updateMenuItemUseCase;
     private final DeleteMenuItemUseCase deleteMenuItemUseCase;
 
     public MenuItemController(
             CreateMenuItemUseCase createMenuItemUseCase,
+            ImportMenuItemsUseCase importMenuItemsUseCase,
             GetMenuItemUseCase getMenuItemUseCase,
             ListMenuItemsUseCase listMenuItemsUseCase,
+            SearchMenuItemsUseCase searchMenuItemsUseCase,
+            SearchDishesUseCase searchDishesUseCase,
             UpdateMenuItemUseCase updateMenuItemUseCase,
             DeleteMenuItemUseCase deleteMenuItemUseCase) {
         this.createMenuItemUseCase = createMenuItemUseCase;
+        this.importMenuItemsUseCase = importMenuItemsUseCase;
         this.getMenuItemUseCase = getMenuItemUseCase;
         this.listMenuItemsUseCase = listMenuItemsUseCase;
+        this.searchMenuItemsUseCase = searchMenuItemsUseCase;
+        this.searchDishesUseCase = searchDishesUseCase;
         this.updateMenuItemUseCase = updateMenuItemUseCase;
         this.deleteMenuItemUseCase = deleteMenuItemUseCase;
     }
@@ -80,6 +104,42 @@ public class MenuItemController {
                 .body(MenuItemResponse.fromDomain(menuItem));
     }
 
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    @Operation(summary = "Import many menu items of a restaurant from a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; each row reports whether it was imported or rejected"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized import"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owner or Admin role required"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<BulkImportResponse> importMenuItems(
+            @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId,
+            @RequestBody List<BulkMenuItemRequest> items) {
+        LOGGER.info("POST -> /api/menu-items/bulk - Importing {} menu items for restaurant {}",
+                items.size(), restaurantId);
+
+        return runImport(restaurantId, items);
+    }
+
+    @PostMapping(path = "/bulk", consumes = TEXT_CSV)
+    @PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+    @Operation(summary = "Import many menu items of a restaurant from CSV with a header row "
+            + "(name, price, description, image_url, is_available)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; each row reports whether it was imported or rejected"),
+            @ApiResponse(responseCode = "400", description = "Malformed CSV, empty or oversized import"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owner or Admin role required"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<BulkImportResponse> importMenuItemsCsv(
+            @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId,
+            Reader body) throws IOException {
+        LOGGER.info("POST -> /api/menu-items/bulk - Importing CSV menu items for restaurant {}", restaurantId);
+
+        return runImport(restaurantId, MenuItemCsvReader.read(body, ImportMenuItemsUseCase.MAX_ROWS));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
     @Operation(summary = "Get menu item by ID")
@@ -93,19 +153,29 @@ public class MenuItemController {
 
         MenuItem menuItem = getMenuItemUseCase.execute(id);
 
-        return ResponseEntity.ok(MenuItemResponse.fromDomain(menuItem));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(MENU_ITEM_ETAG, menuItem.getId(), menuItem.getUpdatedAt()))
+                .cacheControl(ETags.REVALIDATE)
+                .body(MenuItemResponse.fromDomain(menuItem));
     }
 
     @GetMapping("/restaurant")
     @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
     @Operation(summary = "List all menu items for a restaurant")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Menu items retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Menu items retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Menu unchanged since the ETag sent in If-None-Match")
     })
     public ResponseEntity<List<MenuItemResponse>> listMenuItemsByRestaurant(
-            @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId) {
+            @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId,
+            WebRequest webRequest) {
         LOGGER.info("GET -> /api/menu-items/restaurant - Listing menu items for restaurant {}", restaurantId);
 
+        String eTag = menuETag(restaurantId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         var query = new ListMenuItemsUseCase.ListMenuItemsQuery(restaurantId);
         List<MenuItem> menuItems = listMenuItemsUseCase.execute(query);
 
@@ -113,7 +183,10 @@ public class MenuItemController {
                 .map(MenuItemResponse::fromDomain)
                 .toList();
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(responses);
     }
 
     @GetMapping("/restaurant/available")
@@ -124,10 +197,16 @@ public class MenuItemController {
     })
     public ResponseEntity<List<MenuItemResponse>> listMenuItemsByAvailability(
             @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId,
-            @Parameter(description = "Availability status") @RequestParam Boolean available) {
+            @Parameter(description = "Availability status") @RequestParam Boolean available,
+            WebRequest webRequest) {
         LOGGER.info("GET -> /api/menu-items/restaurant/available - Listing {} menu items for restaurant {}",
                 available ? "available" : "unavailable", restaurantId);
 
+        String eTag = menuETag(restaurantId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         var query = new ListMenuItemsUseCase.ListMenuItemsQuery(restaurantId, available);
         List<MenuItem> menuItems = listMenuItemsUseCase.execute(query);
 
@@ -135,30 +214,67 @@ public class MenuItemController {
                 .map(MenuItemResponse::fromDomain)
                 .toList();
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(responses);
     }
 
     @GetMapping("/restaurant/search")
     @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
-    @Operation(summary = "Search menu items by name for a restaurant")
+    @Operation(summary = "Search menu items of a restaurant by name or description, most relevant first")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Menu items found")
+            @ApiResponse(responseCode = "200", description = "Menu items found"),
+            @ApiResponse(responseCode = "400", description = "Invalid search parameters")
     })
-    public ResponseEntity<List<MenuItemResponse>> searchMenuItemsByName(
+    public ResponseEntity<PageResponseDTO<MenuItemResponse>> searchMenuItemsByName(
             @Parameter(description = "Restaurant ID") @RequestParam Long restaurantId,
-            @Parameter(description = "Name to search") @RequestParam String name) {
-        LOGGER.info("GET -> /api/menu-items/restaurant/search - Searching menu items by name '{}' for restaurant {}",
-                name, restaurantId);
+            @Parameter(description = "Words to search; typos and word forms are tolerated") @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+        LOGGER.info("GET -> /api/menu-items/restaurant/search - Searching menu items by '{}' for restaurant {} (page={}, size={})",
+                name, restaurantId, page, size);
 
         String nameDecoded = URLDecoder.decode(name, StandardCharsets.UTF_8);
-        var query = new ListMenuItemsUseCase.ListMenuItemsQuery(restaurantId, null, nameDecoded);
-        List<MenuItem> menuItems = listMenuItemsUseCase.execute(query);
+        var query = new SearchMenuItemsUseCase.SearchMenuItemsQuery(restaurantId, nameDecoded, page, size, withTotal);
 
-        List<MenuItemResponse> responses = menuItems.stream()
-                .map(MenuItemResponse::fromDomain)
+        // Results only change with the menu, so its version still identifies them
+        String eTag = menuETag(restaurantId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        PageResponseDTO<MenuItem> menuItems = searchMenuItemsUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(menuItems.map(MenuItemResponse::fromDomain));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
+    @Operation(summary = "Search available dishes across all open restaurants, most relevant first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dishes found"),
+            @ApiResponse(responseCode = "400", description = "Missing search text or invalid cursor")
+    })
+    public ResponseEntity<CursorPageResponseDTO<DishResponse>> searchDishes(
+            @Parameter(description = "Words to search; typos and word forms are tolerated") @RequestParam String q,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        LOGGER.info("GET -> /api/menu-items/search - Searching dishes by '{}' (size={})", q, size);
+
+        var query = new SearchDishesUseCase.SearchDishesQuery(q, cursor, size);
+        CursorPageResponseDTO<DishMatch> dishes = searchDishesUseCase.execute(query);
+
+        List<DishResponse> responses = dishes.getData().stream()
+                .map(DishResponse::fromDomain)
                 .toList();
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(new CursorPageResponseDTO<>(responses, dishes.getSize(), dishes.getNextCursor()));
     }
 
     @PutMapping("/{id}")
@@ -201,4 +317,20 @@ public class MenuItemController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<BulkImportResponse> runImport(Long restaurantId, List<BulkMenuItemRequest> items) {
+        var command = new ImportMenuItemsUseCase.ImportMenuItemsCommand(
+                restaurantId,
+                items.stream()
+                        .map(item -> item != null ? item.toRow() : null)
+                        .toList()
+        );
+
+        return ResponseEntity.ok(BulkImportResponse.fromResult(importMenuItemsUseCase.execute(command)));
+    }
+
+    // Every menu listing of a restaurant changes together with its menu version
+    private String menuETag(Long restaurantId) {
+        return ETags.ofVersion(MENU_ETAG, restaurantId, listMenuItemsUseCase.menuVersion(restaurantId));
+    }
+}
@@ -0,0 +1,175 @@
+package com.michelmaia.quickbite.presentation.rest.menuitem;
+
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkMenuItemRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads bulk menu import rows from CSV (RFC 4180: quoted fields may hold commas, quotes and line breaks)
+ * The first record is a header naming the columns: name, price and optionally description, image_url, is_available.
+ * The body is read as a stream; reading stops with an error once more than maxRows rows have been seen.
+ */
+final class MenuItemCsvReader {
+
+    private enum Column {
+        NAME, DESCRIPTION, PRICE, IMAGE_URL, IS_AVAILABLE
+    }
+
+    private final BufferedReader reader;
+    private final int maxRows;
+    private int line = 1;
+
+    private MenuItemCsvReader(Reader reader, int maxRows) {
+        this.reader = new BufferedReader(reader);
+        this.maxRows = maxRows;
+    }
+
+    static List<BulkMenuItemRequest> read(Reader reader, int maxRows) throws IOException {
+        return new MenuItemCsvReader(reader, maxRows).readAll();
+    }
+
+    private List<BulkMenuItemRequest> readAll() throws IOException {
+        skipByteOrderMark();
+        List<String> header = nextRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is required");
+        }
+        Map<Column, Integer> columns = columns(header);
+
+        List<BulkMenuItemRequest> rows = new ArrayList<>();
+        int recordLine = line;
+        for (List<String> record = nextRecord(); record != null; recordLine = line, record = nextRecord()) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (rows.size() == maxRows) {
+                throw new IllegalArgumentException("At most " + maxRows + " menu items can be imported at once");
+            }
+            rows.add(toRequest(record, columns, recordLine));
+        }
+        return rows;
+    }
+
+    private static Map<Column, Integer> columns(List<String> header) {
+        Map<Column, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            Column column = switch (name) {
+                case "name" -> Column.NAME;
+                case "description" -> Column.DESCRIPTION;
+                case "price" -> Column.PRICE;
+                case "imageurl" -> Column.IMAGE_URL;
+                case "isavailable", "available" -> Column.IS_AVAILABLE;
+                default -> throw new IllegalArgumentException("Unknown CSV column: " + header.get(i));
+            };
+            if (columns.put(column, i) != null) {
+                throw new IllegalArgumentException("Duplicate CSV column: " + header.get(i));
+            }
+        }
+        if (!columns.containsKey(Column.NAME) || !columns.containsKey(Column.PRICE)) {
+            throw new IllegalArgumentException("CSV header must contain name and price columns");
+        }
+        return columns;
+    }
+
+    private static BulkMenuItemRequest toRequest(List<String> record, Map<Column, Integer> columns, int line) {
+        String price = value(record, columns, Column.PRICE);
+        String available = value(record, columns, Column.IS_AVAILABLE);
+        return new BulkMenuItemRequest(
+                value(record, columns, Column.NAME),
+                value(record, columns, Column.DESCRIPTION),
+                price != null ? parsePrice(price, line) : null,
+                value(record, columns, Column.IMAGE_URL),
+                available != null ? parseBoolean(available, line) : null
+        );
+    }
+
+    // Missing trailing fields and empty fields are both read as absent
+    private static String value(List<String> record, Map<Column, Integer> columns, Column column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Double parsePrice(String value, int line) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Line " + line + ": invalid price '" + value + "'");
+        }
+    }
+
+    private static Boolean parseBoolean(String value, int line) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "1" -> true;
+            case "false", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Line " + line + ": invalid availability '" + value + "'");
+        };
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    // Fields of the next record, or null at the end of the input
+    private List<String> nextRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int quoteLine = line;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Line " + quoteLine + ": unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                quoteLine = line;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.michelmaia.quickbite.presentation.rest.menuitem.dto;
+
+import com.michelmaia.quickbite.application.usecase.menuitem.ImportMenuItemsUseCase;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk menu import, with the outcome of every row in input order
+ */
+public record BulkImportResponse(
+        long imported,
+        long rejected,
+        List<RowResult> rows
+) {
+    public record RowResult(
+            int row,
+            String status,
+            Long id,
+            String error
+    ) {
+    }
+
+    public static BulkImportResponse fromResult(ImportMenuItemsUseCase.ImportResult result) {
+        List<RowResult> rows = result.rows().stream()
+                .map(outcome -> new RowResult(
+                        outcome.row(),
+                        outcome.isImported() ? "IMPORTED" : "REJECTED",
+                        outcome.id(),
+                        outcome.error()
+                ))
+                .toList();
+        return new BulkImportResponse(result.imported(), result.rejected(), rows);
+    }
+}
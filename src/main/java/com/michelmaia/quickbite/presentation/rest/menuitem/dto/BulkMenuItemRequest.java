@@ -0,0 +1,19 @@
+package com.michelmaia.quickbite.presentation.rest.menuitem.dto;
+
+import com.michelmaia.quickbite.application.usecase.menuitem.ImportMenuItemsUseCase;
+
+/**
+ * Request DTO for one row of a bulk menu import
+ * Not bean-validated: invalid rows are reported individually instead of failing the whole import
+ */
+public record BulkMenuItemRequest(
+        String name,
+        String description,
+        Double price,
+        String imageUrl,
+        Boolean isAvailable
+) {
+    public ImportMenuItemsUseCase.MenuItemRow toRow() {
+        return new ImportMenuItemsUseCase.MenuItemRow(name, description, price, imageUrl, isAvailable);
+    }
+}
@@ -0,0 +1,41 @@
+package com.michelmaia.quickbite.presentation.rest.menuitem.dto;
+
+import com.michelmaia.quickbite.domain.menuitem.entity.DishMatch;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+
+/**
+ * Response DTO for the cross-restaurant dish search
+ */
+public record DishResponse(
+        Long id,
+        String name,
+        String description,
+        Double price,
+        String imageUrl,
+        RestaurantSummary restaurant
+) {
+    public record RestaurantSummary(
+            Long id,
+            String name,
+            String cuisine,
+            Double rating
+    ) {
+    }
+
+    public static DishResponse fromDomain(DishMatch match) {
+        MenuItem menuItem = match.menuItem();
+        return new DishResponse(
+                menuItem.getId(),
+                menuItem.getName(),
+                menuItem.getDescription(),
+                menuItem.getPrice(),
+                menuItem.getImageUrl(),
+                new RestaurantSummary(
+                        menuItem.getRestaurantId(),
+                        match.restaurantName(),
+                        match.restaurantCuisine(),
+                        match.restaurantRating()
+                )
+        );
+    }
+}
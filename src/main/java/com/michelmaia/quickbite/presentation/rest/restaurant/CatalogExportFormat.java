@@ -0,0 +1,47 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Formats of the catalog export, selected by the format request parameter
+ */
+enum CatalogExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    CatalogExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    static CatalogExportFormat fromParam(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + value + " (expected ndjson or csv)");
+        }
+    }
+
+    String mediaType() {
+        return mediaType;
+    }
+
+    String fileName() {
+        return "catalog." + extension;
+    }
+
+    CatalogExportWriter open(OutputStream out, ObjectMapper objectMapper, boolean withMenus) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonCatalogWriter(out, objectMapper);
+            case CSV -> new CsvCatalogWriter(out, withMenus);
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes catalog entries to an export stream as they arrive; nothing is buffered beyond the current entry
+ */
+interface CatalogExportWriter extends Closeable {
+
+    void write(CatalogEntry entry) throws IOException;
+}
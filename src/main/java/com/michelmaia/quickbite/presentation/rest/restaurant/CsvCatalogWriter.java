@@ -0,0 +1,113 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant;
+
+import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV with a header row: one row per restaurant, or with menus one row per menu item with the restaurant
+ * columns repeated (a restaurant without items still gets one row, with empty menu item columns)
+ */
+final class CsvCatalogWriter implements CatalogExportWriter {
+
+    private static final List<String> RESTAURANT_COLUMNS = List.of(
+            "id", "owner_id", "name", "cuisine", "street", "city", "state", "zip_code",
+            "opening_hours", "rating", "is_open", "created_at", "updated_at");
+
+    private static final List<String> MENU_ITEM_COLUMNS = List.of(
+            "menu_item_id", "menu_item_name", "menu_item_description", "menu_item_price",
+            "menu_item_image_url", "menu_item_is_available", "menu_item_created_at", "menu_item_updated_at");
+
+    private final Writer writer;
+    private final boolean withMenus;
+
+    CsvCatalogWriter(OutputStream out, boolean withMenus) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.withMenus = withMenus;
+        writeRow(RESTAURANT_COLUMNS.toArray());
+        if (withMenus) {
+            writer.write(',');
+            writeRow(MENU_ITEM_COLUMNS.toArray());
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(CatalogEntry entry) throws IOException {
+        if (!withMenus || entry.menuItems() == null || entry.menuItems().isEmpty()) {
+            writeRestaurant(entry.restaurant());
+            if (withMenus) {
+                writer.write(",".repeat(MENU_ITEM_COLUMNS.size()));
+            }
+            writer.write('\n');
+            return;
+        }
+        for (MenuItem menuItem : entry.menuItems()) {
+            writeRestaurant(entry.restaurant());
+            writer.write(',');
+            writeRow(
+                    menuItem.getId(),
+                    menuItem.getName(),
+                    menuItem.getDescription(),
+                    menuItem.getPrice(),
+                    menuItem.getImageUrl(),
+                    menuItem.isAvailable(),
+                    menuItem.getCreatedAt(),
+                    menuItem.getUpdatedAt()
+            );
+            writer.write('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeRestaurant(Restaurant restaurant) throws IOException {
+        Address address = restaurant.getAddress();
+        writeRow(
+                restaurant.getId(),
+                restaurant.getOwnerId(),
+                restaurant.getName(),
+                restaurant.getCuisine(),
+                address != null ? address.getStreet() : null,
+                address != null ? address.getCity() : null,
+                address != null ? address.getState() : null,
+                address != null ? address.getZipCode() : null,
+                restaurant.getOpeningHours(),
+                restaurant.getRating(),
+                restaurant.isOpen(),
+                restaurant.getCreatedAt(),
+                restaurant.getUpdatedAt()
+        );
+    }
+
+    private void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, with quotes doubled
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
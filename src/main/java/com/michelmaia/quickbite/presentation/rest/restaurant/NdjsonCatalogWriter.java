@@ -0,0 +1,34 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.presentation.rest.restaurant.dto.CatalogEntryResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON: one CatalogEntryResponse object per line, written by a single streaming generator
+ */
+final class NdjsonCatalogWriter implements CatalogExportWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonCatalogWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        // Lines are separated explicitly, not by the generator's default space between root values
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(CatalogEntry entry) throws IOException {
+        generator.writeObject(CatalogEntryResponse.fromDomain(entry));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
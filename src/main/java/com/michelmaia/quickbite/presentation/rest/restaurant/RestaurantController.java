@@ -1,25 +1,39 @@
 
 package com.michelmaia.quickbite.presentation.rest.restaurant;
 
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
 import com.michelmaia.quickbite.application.dto.PageResponseDTO;
 import com.michelmaia.quickbite.application.usecase.restaurant.*;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
+import com.michelmaia.quickbite.presentation.rest.common.ETags;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.CreateRestaurantRequest;
+import com.michelmaia.quickbite.presentation.rest.restaurant.dto.NearbyRestaurantResponse;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.RestaurantResponse;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.UpdateRestaurantRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,24 +45,34 @@ import java.util.List;
 public class RestaurantController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RestaurantController.class);
+    private static final String RESTAURANT_ETAG = "restaurant";
 
     private final CreateRestaurantUseCase createRestaurantUseCase;
     private final GetRestaurantUseCase getRestaurantUseCase;
     private final ListRestaurantsUseCase listRestaurantsUseCase;
     private final UpdateRestaurantUseCase updateRestaurantUseCase;
     private final DeleteRestaurantUseCase deleteRestaurantUseCase;
+    private final ExportCatalogUseCase exportCatalogUseCase;
+    private final FindNearbyRestaurantsUseCase findNearbyRestaurantsUseCase;
+    private final ObjectMapper objectMapper;
 
     public RestaurantController(
             CreateRestaurantUseCase createRestaurantUseCase,
             GetRestaurantUseCase getRestaurantUseCase,
             ListRestaurantsUseCase listRestaurantsUseCase,
             UpdateRestaurantUseCase updateRestaurantUseCase,
-            DeleteRestaurantUseCase deleteRestaurantUseCase) {
+            DeleteRestaurantUseCase deleteRestaurantUseCase,
+            ExportCatalogUseCase exportCatalogUseCase,
+            FindNearbyRestaurantsUseCase findNearbyRestaurantsUseCase,
+            ObjectMapper objectMapper) {
         this.createRestaurantUseCase = createRestaurantUseCase;
         this.getRestaurantUseCase = getRestaurantUseCase;
         this.listRestaurantsUseCase = listRestaurantsUseCase;
         this.updateRestaurantUseCase = updateRestaurantUseCase;
         this.deleteRestaurantUseCase = deleteRestaurantUseCase;
+        this.exportCatalogUseCase = exportCatalogUseCase;
+        this.findNearbyRestaurantsUseCase = findNearbyRestaurantsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -71,7 +95,11 @@ public class RestaurantController {
                 request.address().city(),
                 request.address().state(),
                 request.address().zipCode(),
+                request.address().latitude(),
+                request.address().longitude(),
                 request.openingHours(),
+                request.schedule() != null ? request.schedule().timeZone() : null,
+                request.schedule() != null ? request.schedule().toShifts() : null,
                 request.rating(),
                 request.isOpen()
         );
@@ -88,15 +116,27 @@ public class RestaurantController {
     @Operation(summary = "Get restaurant by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Restaurant found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Restaurant not found")
     })
     public ResponseEntity<RestaurantResponse> getRestaurantById(
-            @Parameter(description = "Restaurant ID") @PathVariable Long id) {
+            @Parameter(description = "Restaurant ID") @PathVariable Long id,
+            WebRequest webRequest) {
         LOGGER.info("GET -> /api/restaurants/{} - Fetching restaurant", id);
 
-        Restaurant restaurant = getRestaurantUseCase.execute(id);
+        // Revalidation only needs updated_at; the restaurant is loaded when it changed
+        LocalDateTime lastModified = getRestaurantUseCase.lastModified(id);
+        if (webRequest.checkNotModified(ETags.of(RESTAURANT_ETAG, id, lastModified))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(RestaurantResponse.fromDomain(restaurant));
+        // The tag comes from the body actually sent, which is never older than the one just checked
+        Restaurant restaurant = getRestaurantUseCase.execute(id, lastModified);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(RESTAURANT_ETAG, restaurant.getId(), restaurant.getUpdatedAt()))
+                .cacheControl(ETags.REVALIDATE)
+                .body(RestaurantResponse.fromDomain(restaurant));
     }
 
     @GetMapping
@@ -109,29 +149,141 @@ public class RestaurantController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String cuisine,
-            @RequestParam(required = false) Double minRating) {
-        LOGGER.info("GET -> /api/restaurants - Listing restaurants (page={}, size={}, cuisine={}, minRating={})",
-                page, size, cuisine, minRating);
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Boolean isOpen,
+            @Parameter(description = "Only restaurants open right now according to their weekly schedule")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Case-insensitive prefix of the restaurant name")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "NEWEST or TOP_RATED; defaults to TOP_RATED when filtering by rating without cuisine")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Count matching restaurants; false only reports hasNext")
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        LOGGER.info("GET -> /api/restaurants - Listing restaurants (page={}, size={}, cuisine={}, minRating={}, isOpen={}, "
+                        + "openNow={}, city={}, state={}, name={}, sort={}, withTotal={})",
+                page, size, cuisine, minRating, isOpen, openNow, city, state, name, sort, withTotal);
 
-        var query = new ListRestaurantsUseCase.ListRestaurantsQuery(
-                page, size, cuisine, minRating
-        );
+        var criteria = new RestaurantCriteria(cuisine, minRating, isOpen, openNow, city, state, name,
+                RestaurantSortOrder.fromParam(sort));
+        return list(page, size, criteria, withTotal);
+    }
 
-        PageResponseDTO<Restaurant> restaurantsPage = listRestaurantsUseCase.execute(query);
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
+    @Operation(summary = "List restaurants with cursor (keyset) pagination",
+            description = "Pass the nextCursor of the previous response to fetch the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Restaurants retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageResponseDTO<RestaurantResponse>> scrollRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Boolean isOpen,
+            @Parameter(description = "Only restaurants open right now according to their weekly schedule")
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Case-insensitive prefix of the restaurant name")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "NEWEST or TOP_RATED; must stay the same while following a cursor")
+            @RequestParam(required = false) String sort) {
+        LOGGER.info("GET -> /api/restaurants/scroll - Scrolling restaurants (size={}, cuisine={}, minRating={}, isOpen={}, "
+                        + "openNow={}, city={}, state={}, name={}, sort={})",
+                size, cuisine, minRating, isOpen, openNow, city, state, name, sort);
+
+        var criteria = new RestaurantCriteria(cuisine, minRating, isOpen, openNow, city, state, name,
+                RestaurantSortOrder.fromParam(sort));
+        var query = new ListRestaurantsUseCase.ScrollRestaurantsQuery(cursor, size, criteria);
+
+        CursorPageResponseDTO<Restaurant> restaurantsPage = listRestaurantsUseCase.scroll(query);
 
-        // Convert to DTOs
         List<RestaurantResponse> responses = restaurantsPage.getData().stream()
                 .map(RestaurantResponse::fromDomain)
                 .toList();
 
-        PageResponseDTO<RestaurantResponse> response = new PageResponseDTO<>(
-                responses,
-                restaurantsPage.getPage(),
-                restaurantsPage.getSize(),
-                restaurantsPage.getTotalElements()
-        );
+        String eTag = ETags.ofList(RESTAURANT_ETAG, restaurantsPage.getData(), Restaurant::getId,
+                Restaurant::getUpdatedAt, restaurantsPage.getNextCursor());
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(new CursorPageResponseDTO<>(
+                        responses,
+                        restaurantsPage.getSize(),
+                        restaurantsPage.getNextCursor()
+                ));
+    }
+
+    @GetMapping("/nearby")
+    @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
+    @Operation(summary = "Find restaurants near a location",
+            description = "Restaurants with a geocoded address within radiusKm of (lat, lon), nearest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Restaurants retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid location, radius or size")
+    })
+    public ResponseEntity<List<NearbyRestaurantResponse>> findNearbyRestaurants(
+            @Parameter(description = "Latitude in decimal degrees") @RequestParam double lat,
+            @Parameter(description = "Longitude in decimal degrees") @RequestParam double lon,
+            @Parameter(description = "Search radius in kilometres, at most 50")
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(required = false) Boolean isOpen,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "20") int size) {
+        LOGGER.info("GET -> /api/restaurants/nearby - Finding restaurants (lat={}, lon={}, radiusKm={}, cuisine={}, "
+                        + "isOpen={}, openNow={}, size={})",
+                lat, lon, radiusKm, cuisine, isOpen, openNow, size);
+
+        var criteria = new RestaurantCriteria(cuisine, null, isOpen, openNow, null, null, null, null);
+        var query = new FindNearbyRestaurantsUseCase.NearbyRestaurantsQuery(
+                new GeoPoint(lat, lon), radiusKm, criteria, size);
+
+        List<NearbyRestaurantResponse> restaurants = findNearbyRestaurantsUseCase.execute(query).stream()
+                .map(NearbyRestaurantResponse::fromDomain)
+                .toList();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(restaurants);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export every restaurant, optionally with its menu, as NDJSON or CSV",
+            description = "Rows are streamed from a database cursor as they are read, whatever the catalog size")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog streamed"),
+            @ApiResponse(responseCode = "400", description = "Unknown format"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public void exportCatalog(
+            @Parameter(description = "ndjson (one restaurant per line) or csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Embed each restaurant's menu; in CSV, one row per menu item")
+            @RequestParam(defaultValue = "false") boolean withMenus,
+            HttpServletResponse response) throws IOException {
+        LOGGER.info("GET -> /api/restaurants/export - Exporting catalog (format={}, withMenus={})", format, withMenus);
+
+        CatalogExportFormat exportFormat = CatalogExportFormat.fromParam(format);
+        response.setContentType(exportFormat.mediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(exportFormat.fileName()).build().toString());
+
+        var query = new ExportCatalogUseCase.ExportCatalogQuery(withMenus);
+        try (CatalogExportWriter writer = exportFormat.open(response.getOutputStream(), objectMapper, withMenus)) {
+            exportCatalogUseCase.execute(query, entry -> {
+                try {
+                    writer.write(entry);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 
     @GetMapping("/by-cuisine")
@@ -140,8 +292,9 @@ public class RestaurantController {
     public ResponseEntity<PageResponseDTO<RestaurantResponse>> findByCuisine(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam String cuisine) {
-        return listRestaurants(page, size, cuisine, null);
+            @RequestParam String cuisine,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return list(page, size, RestaurantCriteria.byCuisine(cuisine), withTotal);
     }
 
     @GetMapping("/by-rating")
@@ -150,8 +303,9 @@ public class RestaurantController {
     public ResponseEntity<PageResponseDTO<RestaurantResponse>> findByRating(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam Double minRating) {
-        return listRestaurants(page, size, null, minRating);
+            @RequestParam Double minRating,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return list(page, size, RestaurantCriteria.byMinRating(minRating), withTotal);
     }
 
     @PutMapping("/{id}")
@@ -174,7 +328,11 @@ public class RestaurantController {
                 request.address() != null ? request.address().city() : null,
                 request.address() != null ? request.address().state() : null,
                 request.address() != null ? request.address().zipCode() : null,
+                request.address() != null ? request.address().latitude() : null,
+                request.address() != null ? request.address().longitude() : null,
                 request.openingHours(),
+                request.schedule() != null ? request.schedule().timeZone() : null,
+                request.schedule() != null ? request.schedule().toShifts() : null,
                 request.rating(),
                 request.isOpen()
         );
@@ -198,4 +356,21 @@ public class RestaurantController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<PageResponseDTO<RestaurantResponse>> list(int page, int size, RestaurantCriteria criteria,
+                                                                     boolean withTotal) {
+        var query = new ListRestaurantsUseCase.ListRestaurantsQuery(page, size, criteria, withTotal);
+
+        PageResponseDTO<Restaurant> restaurantsPage = listRestaurantsUseCase.execute(query);
+
+        // A matching If-None-Match turns this into a 304 without a body
+        String eTag = ETags.ofList(RESTAURANT_ETAG, restaurantsPage.getData(), Restaurant::getId,
+                Restaurant::getUpdatedAt, restaurantsPage.getTotalElements(), restaurantsPage.isHasNext());
+
+        // Convert to DTOs
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(restaurantsPage.map(RestaurantResponse::fromDomain));
+    }
+}
@@ -0,0 +1,26 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.MenuItemResponse;
+
+import java.util.List;
+
+/**
+ * Response DTO for one line of the catalog export: the restaurant fields, plus its menu when requested
+ */
+public record CatalogEntryResponse(
+        @JsonUnwrapped
+        RestaurantResponse restaurant,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<MenuItemResponse> menu
+) {
+    public static CatalogEntryResponse fromDomain(CatalogEntry entry) {
+        List<MenuItemResponse> menu = entry.menuItems() != null
+                ? entry.menuItems().stream().map(MenuItemResponse::fromDomain).toList()
+                : null;
+        return new CatalogEntryResponse(RestaurantResponse.fromDomain(entry.restaurant()), menu);
+    }
+}
@@ -0,0 +1,20 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.michelmaia.quickbite.domain.restaurant.entity.NearbyRestaurant;
+
+/**
+ * Response DTO for the nearby search: the restaurant fields plus its distance from the search origin
+ */
+public record NearbyRestaurantResponse(
+        @JsonUnwrapped
+        RestaurantResponse restaurant,
+
+        double distanceKm
+) {
+    public static NearbyRestaurantResponse fromDomain(NearbyRestaurant nearby) {
+        // Metre precision is plenty for display and keeps the payload short
+        double distanceKm = Math.round(nearby.distanceKm() * 1000) / 1000.0;
+        return new NearbyRestaurantResponse(RestaurantResponse.fromDomain(nearby.restaurant()), distanceKm);
+    }
+}
@@ -1,8 +1,14 @@
 package com.michelmaia.quickbite.presentation.rest.restaurant.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
 import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * Response DTO for restaurant operations
@@ -14,6 +20,7 @@ public record RestaurantResponse(
         String cuisine,
         AddressResponse address,
         String openingHours,
+        ScheduleResponse schedule,
         Double rating,
         Boolean isOpen,
         LocalDateTime createdAt,
@@ -25,7 +32,8 @@ public record RestaurantResponse(
                 restaurant.getAddress().getStreet(),
                 restaurant.getAddress().getCity(),
                 restaurant.getAddress().getState(),
-                restaurant.getAddress().getZipCode()
+                restaurant.getAddress().getZipCode(),
+                restaurant.getAddress().getLocation()
         )
                 : null;
 
@@ -36,6 +44,7 @@ public record RestaurantResponse(
                 restaurant.getCuisine(),
                 addressResponse,
                 restaurant.getOpeningHours(),
+                restaurant.getWeeklySchedule() != null ? ScheduleResponse.fromDomain(restaurant.getWeeklySchedule()) : null,
                 restaurant.getRating(),
                 restaurant.isOpen(),
                 restaurant.getCreatedAt(),
@@ -47,6 +56,32 @@ public record RestaurantResponse(
             String street,
             String city,
             String state,
-            String zipCode
+            String zipCode,
+            Double latitude,
+            Double longitude
+    ) {
+        AddressResponse(String street, String city, String state, String zipCode, GeoPoint location) {
+            this(street, city, state, zipCode,
+                    location != null ? location.latitude() : null,
+                    location != null ? location.longitude() : null);
+        }
+    }
+
+    public record ScheduleResponse(
+            String timeZone,
+            List<ShiftResponse> shifts
+    ) {
+        static ScheduleResponse fromDomain(WeeklySchedule schedule) {
+            List<ShiftResponse> shifts = schedule.getShifts().stream()
+                    .map(shift -> new ShiftResponse(shift.day(), shift.opens(), shift.closes()))
+                    .toList();
+            return new ScheduleResponse(schedule.getZone().getId(), shifts);
+        }
+    }
+
+    public record ShiftResponse(
+            DayOfWeek day,
+            @JsonFormat(pattern = "HH:mm") LocalTime opens,
+            @JsonFormat(pattern = "HH:mm") LocalTime closes
     ) {}
-}
\ No newline at end of file
+}
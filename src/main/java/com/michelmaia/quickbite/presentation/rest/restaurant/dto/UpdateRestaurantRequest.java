@@ -24,12 +24,34 @@ public record UpdateRestaurantRequest(
         @DecimalMax(value = "5.0", message = "Rating must be at most 5.0")
         Double rating,
 
-        Boolean isOpen
+        Boolean isOpen,
+
+        // Structured opening hours, used for the openNow filter
+        @Valid
+        WeeklyScheduleRequest schedule
 ) {
+    public UpdateRestaurantRequest(String name, String cuisine, AddressRequest address, String openingHours,
+                                   Double rating, Boolean isOpen) {
+        this(name, cuisine, address, openingHours, rating, isOpen, null);
+    }
+
     public record AddressRequest(
             @NotBlank(message = "Street is required") String street,
             @NotBlank(message = "City is required") String city,
             @NotBlank(message = "State is required") String state,
-            @NotBlank(message = "Zip code is required") String zipCode
-    ) {}
+            @NotBlank(message = "Zip code is required") String zipCode,
+
+            // Geocoded by the client; give both or neither
+            @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+            @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+            Double latitude,
+
+            @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+            @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+            Double longitude
+    ) {
+        public AddressRequest(String street, String city, String state, String zipCode) {
+            this(street, city, state, zipCode, null, null);
+        }
+    }
 }
\ No newline at end of file
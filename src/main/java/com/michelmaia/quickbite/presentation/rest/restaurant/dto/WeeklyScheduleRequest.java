@@ -0,0 +1,34 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant.dto;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Request DTO for a restaurant's weekly opening schedule
+ * Shifts closing at or before their opening time run past midnight; an empty list means never open.
+ */
+public record WeeklyScheduleRequest(
+        @NotBlank(message = "Time zone is required")
+        String timeZone,
+
+        @NotNull(message = "Shifts are required")
+        List<@Valid @NotNull ShiftRequest> shifts
+) {
+    public record ShiftRequest(
+            @NotNull(message = "Day is required") DayOfWeek day,
+            @NotNull(message = "Opening time is required") LocalTime opens,
+            @NotNull(message = "Closing time is required") LocalTime closes
+    ) {}
+
+    public List<WeeklySchedule.Shift> toShifts() {
+        return shifts.stream()
+                .map(shift -> new WeeklySchedule.Shift(shift.day(), shift.opens(), shift.closes()))
+                .toList();
+    }
+}
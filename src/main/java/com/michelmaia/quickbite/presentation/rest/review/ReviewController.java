@@ -0,0 +1,92 @@
+package com.michelmaia.quickbite.presentation.rest.review;
+
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.usecase.review.CreateReviewUseCase;
+import com.michelmaia.quickbite.application.usecase.review.ListReviewsUseCase;
+import com.michelmaia.quickbite.domain.review.entity.Review;
+import com.michelmaia.quickbite.presentation.rest.review.dto.CreateReviewRequest;
+import com.michelmaia.quickbite.presentation.rest.review.dto.ReviewResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Presentation Layer: Review Controller
+ */
+@RestController
+@RequestMapping("/api/restaurants/{restaurantId}/reviews")
+@Tag(name = "Reviews", description = "Customer reviews of restaurants")
+public class ReviewController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReviewController.class);
+
+    private final CreateReviewUseCase createReviewUseCase;
+    private final ListReviewsUseCase listReviewsUseCase;
+
+    public ReviewController(CreateReviewUseCase createReviewUseCase, ListReviewsUseCase listReviewsUseCase) {
+        this.createReviewUseCase = createReviewUseCase;
+        this.listReviewsUseCase = listReviewsUseCase;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
+    @Operation(summary = "Review a restaurant",
+            description = "One review per user and restaurant; the restaurant's rating includes it within a few seconds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Review created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owners cannot review their own restaurant"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found"),
+            @ApiResponse(responseCode = "409", description = "Restaurant already reviewed by this user")
+    })
+    public ResponseEntity<ReviewResponse> createReview(
+            @Parameter(description = "Restaurant ID") @PathVariable Long restaurantId,
+            @Valid @RequestBody CreateReviewRequest request,
+            Authentication authentication) {
+        LOGGER.info("POST -> /api/restaurants/{}/reviews - Creating review by {}", restaurantId, authentication.getName());
+
+        var command = new CreateReviewUseCase.CreateReviewCommand(
+                restaurantId,
+                authentication.getName(),
+                request.rating(),
+                request.comment()
+        );
+
+        Review review = createReviewUseCase.execute(command);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ReviewResponse.fromDomain(review));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('USER', 'OWNER', 'ADMIN')")
+    @Operation(summary = "List a restaurant's reviews, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Restaurant not found")
+    })
+    public ResponseEntity<PageResponseDTO<ReviewResponse>> listReviews(
+            @Parameter(description = "Restaurant ID") @PathVariable Long restaurantId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Count the restaurant's reviews; false only reports hasNext")
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        LOGGER.info("GET -> /api/restaurants/{}/reviews - Listing reviews (page={}, size={}, withTotal={})",
+                restaurantId, page, size, withTotal);
+
+        var query = new ListReviewsUseCase.ListReviewsQuery(restaurantId, page, size, withTotal);
+
+        return ResponseEntity.ok(listReviewsUseCase.execute(query).map(ReviewResponse::fromDomain));
+    }
+}
@@ -0,0 +1,16 @@
+package com.michelmaia.quickbite.presentation.rest.review.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * Request DTO for reviewing a restaurant
+ */
+public record CreateReviewRequest(
+        @NotNull(message = "Rating is required")
+        @Min(value = 1, message = "Rating must be between 1 and 5")
+        @Max(value = 5, message = "Rating must be between 1 and 5")
+        Integer rating,
+
+        @Size(max = 2000, message = "Comment cannot exceed 2000 characters")
+        String comment
+) {}
@@ -0,0 +1,28 @@
+package com.michelmaia.quickbite.presentation.rest.review.dto;
+
+import com.michelmaia.quickbite.domain.review.entity.Review;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for review operations; userId is null once the author's account is deleted
+ */
+public record ReviewResponse(
+        Long id,
+        Long restaurantId,
+        Long userId,
+        Integer rating,
+        String comment,
+        LocalDateTime createdAt
+) {
+    public static ReviewResponse fromDomain(Review review) {
+        return new ReviewResponse(
+                review.getId(),
+                review.getRestaurantId(),
+                review.getUserId(),
+                review.getRating(),
+                review.getComment(),
+                review.getCreatedAt()
+        );
+    }
+}
@@ -16,8 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Presentation Layer: REST Controller for User endpoints
  * This controller is thin - it delegates to use cases
@@ -111,24 +109,14 @@ public class UserController {
     public ResponseEntity<PageResponseDTO<UserResponse>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long roleId) {
+            @RequestParam(required = false) Long roleId,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
         
-        var query = new ListUsersUseCase.ListUsersQuery(page, size, roleId);
+        var query = new ListUsersUseCase.ListUsersQuery(page, size, roleId, withTotal);
         PageResponseDTO<User> usersPage = listUsersUseCase.execute(query);
         
         // Convert domain entities to DTOs
-        List<UserResponse> userResponses = usersPage.getData().stream()
-            .map(UserResponse::fromDomain)
-            .toList();
-        
-        PageResponseDTO<UserResponse> response = new PageResponseDTO<>(
-            userResponses,
-            usersPage.getPage(),
-            usersPage.getSize(),
-            usersPage.getTotalElements()
-        );
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(usersPage.map(UserResponse::fromDomain));
     }
     
     @GetMapping("/{id}")
@@ -0,0 +1,20 @@
+-- Structured opening hours: minute-of-week ranges (Monday 00:00 = 0) local to the restaurant's time zone
+
+-- Time zones in use by schedules, numbered so each gets its own week-long stretch of open_slots;
+-- 213043 * 10080 + 10080 is the last stretch end within int4
+CREATE TABLE IF NOT EXISTS time_zones (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(64) NOT NULL UNIQUE,
+    CONSTRAINT chk_time_zones_id CHECK (id BETWEEN 1 AND 213043)
+);
+
+-- open_slots repeats weekly_hours shifted by (time zone id * 10080): "open now" in every zone at once
+-- is then one slot per zone, matched through the GiST index instead of evaluating each schedule
+ALTER TABLE restaurants
+    ADD COLUMN IF NOT EXISTS time_zone VARCHAR(64),
+    ADD COLUMN IF NOT EXISTS weekly_hours int4multirange,
+    ADD COLUMN IF NOT EXISTS open_slots int4multirange,
+    ADD CONSTRAINT chk_restaurants_schedule CHECK ((time_zone IS NULL) = (weekly_hours IS NULL));
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_open_slots
+    ON restaurants USING GIST (open_slots);
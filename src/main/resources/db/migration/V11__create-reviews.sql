@@ -0,0 +1,32 @@
+-- Customer reviews; a review outlives its author so the restaurant's running rating stays consistent
+CREATE TABLE IF NOT EXISTS reviews (
+    id BIGSERIAL PRIMARY KEY,
+    restaurant_id BIGINT NOT NULL,
+    user_id BIGINT,
+    rating SMALLINT NOT NULL CHECK (rating BETWEEN 1 AND 5),
+    comment VARCHAR(2000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL,
+    UNIQUE (restaurant_id, user_id)
+);
+
+-- Newest-first listing of one restaurant's reviews
+CREATE INDEX IF NOT EXISTS idx_reviews_restaurant_created
+    ON reviews (restaurant_id, created_at DESC, id DESC);
+
+-- The rating is a running mean: rating = rating_sum / rating_count over every folded review
+ALTER TABLE restaurants
+    ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_count BIGINT NOT NULL DEFAULT 0;
+
+-- Reviews not yet folded into restaurants, spread over a few rows per restaurant so that a burst of
+-- reviews does not queue up on one row lock; a periodic rollup moves them into the restaurant row
+CREATE TABLE IF NOT EXISTS restaurant_rating_stripes (
+    restaurant_id BIGINT NOT NULL,
+    stripe SMALLINT NOT NULL,
+    rating_sum BIGINT NOT NULL,
+    rating_count BIGINT NOT NULL,
+    PRIMARY KEY (restaurant_id, stripe),
+    FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE
+);
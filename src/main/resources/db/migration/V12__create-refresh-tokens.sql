@@ -0,0 +1,27 @@
+-- Rotating refresh tokens: only the SHA-256 (hex) of each token is stored, and each can be used once
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash CHAR(64) NOT NULL,
+    family_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Lookups are by exact digest only; a hash index answers them in constant time.
+-- Digests of 256-bit random tokens do not collide, so no unique constraint is needed.
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_token_hash
+    ON refresh_tokens USING HASH (token_hash);
+
+-- Revoking a family on reuse, and every token of a user on password change
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family
+    ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user
+    ON refresh_tokens (user_id);
+
+-- Periodic purge of expired tokens
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at
+    ON refresh_tokens (expires_at);
@@ -0,0 +1,16 @@
+-- Keyset pagination keys must never be NULL
+UPDATE restaurants SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+UPDATE restaurants SET rating = 0.0 WHERE rating IS NULL;
+
+ALTER TABLE restaurants ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE restaurants ALTER COLUMN rating SET NOT NULL;
+
+-- Composite indexes matching the (sort key, id) order of each cursor mode
+CREATE INDEX IF NOT EXISTS idx_restaurants_created_at_id
+    ON restaurants (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_cuisine_created_at_id
+    ON restaurants (LOWER(cuisine), created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_rating_id
+    ON restaurants (rating, id);
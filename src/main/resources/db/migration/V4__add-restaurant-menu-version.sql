@@ -0,0 +1,6 @@
+-- Menu version: bumped on every menu item change so cached snapshots can be revalidated cheaply.
+-- Values come from one global sequence, so a version is never reused, even by a recreated restaurant.
+CREATE SEQUENCE IF NOT EXISTS menu_version_seq;
+
+ALTER TABLE restaurants
+    ADD COLUMN IF NOT EXISTS menu_version BIGINT NOT NULL DEFAULT nextval('menu_version_seq');
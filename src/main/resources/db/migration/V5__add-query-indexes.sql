@@ -0,0 +1,26 @@
+-- Secondary indexes for the repository adapters' remaining filters and foreign keys.
+-- Cuisine, rating and created_at listings are already served by the V3 keyset indexes.
+
+-- RestaurantRepository.findByOwnerId and the "owns restaurants" check before a user is deleted
+CREATE INDEX IF NOT EXISTS idx_restaurants_owner_id
+    ON restaurants (owner_id);
+
+-- Per-restaurant menu listing (newest first), count, name search and the ON DELETE CASCADE from restaurants
+CREATE INDEX IF NOT EXISTS idx_menu_items_restaurant_id_created_at
+    ON menu_items (restaurant_id, created_at);
+
+-- Available items only: the public menu view skips hidden dishes without reading them
+CREATE INDEX IF NOT EXISTS idx_menu_items_available_restaurant_id_created_at
+    ON menu_items (restaurant_id, created_at)
+    WHERE is_available;
+
+-- UserRepository.findByRole/countByRole; the primary key leads with user_id and cannot serve these
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_id_user_id
+    ON user_roles (role_id, user_id);
+
+-- Referencing side of the address foreign keys (ON DELETE SET NULL), checked on every address delete
+CREATE INDEX IF NOT EXISTS idx_restaurants_address_id
+    ON restaurants (address_id);
+
+CREATE INDEX IF NOT EXISTS idx_users_address_id
+    ON users (address_id);
@@ -0,0 +1,17 @@
+-- Menu search: stemmed full-text over name and description, plus trigrams on the name for typos and partial words
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Name terms weigh more than description terms when ranking
+ALTER TABLE menu_items
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_menu_items_search_vector
+    ON menu_items USING GIN (search_vector);
+
+-- Serves word similarity (<%) and ILIKE '%...%' on the name
+CREATE INDEX IF NOT EXISTS idx_menu_items_name_trgm
+    ON menu_items USING GIN (name gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Global dish search only ever looks at available items: partial GIN indexes keep hidden dishes
+-- out of the posting lists it reads
+CREATE INDEX IF NOT EXISTS idx_menu_items_available_search_vector
+    ON menu_items USING GIN (search_vector)
+    WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS idx_menu_items_available_name_trgm
+    ON menu_items USING GIN (name gin_trgm_ops)
+    WHERE is_available;
@@ -0,0 +1,12 @@
+-- Filters added by the composable restaurant listing
+
+-- Name prefix: LOWER(r.name) LIKE 'abc%' (text_pattern_ops makes the prefix range usable under any collation)
+CREATE INDEX IF NOT EXISTS idx_restaurants_name_prefix
+    ON restaurants (LOWER(name) text_pattern_ops);
+
+-- City/state: matched on the address, then joined to restaurants through idx_restaurants_address_id (V5)
+CREATE INDEX IF NOT EXISTS idx_addresses_city
+    ON addresses (LOWER(city));
+
+CREATE INDEX IF NOT EXISTS idx_addresses_state
+    ON addresses (LOWER(state));
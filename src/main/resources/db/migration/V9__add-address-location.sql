@@ -0,0 +1,13 @@
+-- Restaurant locations for the "near me" search: great-circle distances from the earthdistance extension
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- Geocoded by the client, in decimal degrees; both or neither
+ALTER TABLE addresses
+    ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION CHECK (latitude BETWEEN -90 AND 90),
+    ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION CHECK (longitude BETWEEN -180 AND 180),
+    ADD CONSTRAINT chk_addresses_location CHECK ((latitude IS NULL) = (longitude IS NULL));
+
+-- Serves earth_box(origin, radius) @> ll_to_earth(latitude, longitude); rows without a location index as NULL
+CREATE INDEX IF NOT EXISTS idx_addresses_location
+    ON addresses USING GIST (ll_to_earth(latitude, longitude));
@@ -0,0 +1,89 @@
+package com.michelmaia.quickbite.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stub DataSource that counts connection acquisitions.
+ * Statements do no I/O: queries return a single row with a single column holding 1, updates report one row.
+ */
+final class CountingDataSource {
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final DataSource dataSource = proxy(DataSource.class, (proxy, method, args) -> {
+        if (method.getName().equals("getConnection")) {
+            acquisitions.incrementAndGet();
+            return connection();
+        }
+        return defaultValue(method);
+    });
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    long acquisitions() {
+        return acquisitions.get();
+    }
+
+    private static Connection connection() {
+        boolean[] autoCommit = {true};
+        return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> statement();
+            case "getAutoCommit" -> autoCommit[0];
+            case "setAutoCommit" -> {
+                autoCommit[0] = (boolean) args[0];
+                yield null;
+            }
+            case "unwrap" -> null;
+            case "isWrapperFor" -> false;
+            default -> defaultValue(method);
+        });
+    }
+
+    private static PreparedStatement statement() {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> singleValue();
+            case "executeUpdate" -> 1;
+            default -> defaultValue(method);
+        });
+    }
+
+    private static ResultSet singleValue() {
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) ->
+                method.getName().equals("getColumnCount") ? 1 : defaultValue(method));
+        boolean[] consumed = {false};
+        return proxy(ResultSet.class, (proxy, method, args) -> switch (method.getName()) {
+            case "next" -> {
+                boolean hasRow = !consumed[0];
+                consumed[0] = true;
+                yield hasRow;
+            }
+            case "getMetaData" -> metaData;
+            case "getLong" -> 1L;
+            case "getObject" -> 1L;
+            default -> defaultValue(method);
+        });
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == void.class || !type.isPrimitive()) return null;
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,69 @@
+package com.michelmaia.quickbite.benchmark;
+
+import com.michelmaia.quickbite.domain.user.entity.Role;
+import com.michelmaia.quickbite.infrastructure.security.JWTCreator;
+import com.michelmaia.quickbite.infrastructure.security.JWTObject;
+import com.michelmaia.quickbite.infrastructure.security.JWTVerifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded verify throughput (one core): the per-request path JWTFilter used to take
+ * against the pre-built {@link JWTVerifier}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+public class JwtVerifyBenchmark {
+
+    private static final String PREFIX = "Bearer";
+    private static final String KEY = "benchmark-signing-key-benchmark-signing-key-0123456789";
+
+    private String token;
+    private JWTVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        Date now = new Date();
+        JWTObject jwtObject = new JWTObject(
+                "benchmark",
+                now,
+                new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)),
+                List.of(Role.USER, Role.OWNER)
+        );
+        token = JWTCreator.create(PREFIX, KEY, jwtObject);
+        verifier = new JWTVerifier(PREFIX, KEY);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken legacy() {
+        JWTObject tokenObject = JWTCreator.create(token, PREFIX, KEY);
+        List<SimpleGrantedAuthority> authorities = tokenObject.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
+                .toList();
+        return new UsernamePasswordAuthenticationToken(tokenObject.getSubject(), null, authorities);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken verifier() {
+        return verifier.verify(token).toAuthentication();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
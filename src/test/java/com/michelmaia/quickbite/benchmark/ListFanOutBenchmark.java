@@ -0,0 +1,105 @@
+package com.michelmaia.quickbite.benchmark;
+
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.application.usecase.restaurant.ListRestaurantsUseCase;
+import com.michelmaia.quickbite.application.usecase.restaurant.ListRestaurantsUseCase.ListRestaurantsQuery;
+import com.michelmaia.quickbite.domain.common.repository.PageResult;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import com.michelmaia.quickbite.infrastructure.persistence.common.ExecutorConcurrentReads;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Latency of a restaurant listing with its total: page and count one after the other ("direct")
+ * versus concurrently on a pool ("platform"). The stub repository only waits, simulating a 5 ms page
+ * and a 15 ms count, so expect roughly 20 ms against 15 ms plus the hand-off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(4)
+public class ListFanOutBenchmark {
+
+    private static final long PAGE_LATENCY = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long COUNT_LATENCY = TimeUnit.MILLISECONDS.toNanos(15);
+
+    @Param({"direct", "platform"})
+    public String executor;
+
+    private ExecutorConcurrentReads concurrentReads;
+    private ListRestaurantsUseCase useCase;
+
+    @Setup
+    public void setUp() {
+        UnitOfWork unitOfWork = new PassThroughUnitOfWork();
+        concurrentReads = new ExecutorConcurrentReads(
+                executor.equals("direct") ? null : ExecutorConcurrentReads.boundedPool(8, 0),
+                unitOfWork, Duration.ofSeconds(5));
+        useCase = new ListRestaurantsUseCase(slowRepository(), unitOfWork, concurrentReads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        concurrentReads.close();
+    }
+
+    @Benchmark
+    public PageResponseDTO<Restaurant> listWithTotal() {
+        return useCase.execute(new ListRestaurantsQuery(0, 20));
+    }
+
+    private static RestaurantRepository slowRepository() {
+        return (RestaurantRepository) Proxy.newProxyInstance(
+                RestaurantRepository.class.getClassLoader(),
+                new Class<?>[]{RestaurantRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByCriteria" -> {
+                        LockSupport.parkNanos(PAGE_LATENCY);
+                        yield new PageResult<Restaurant>(List.of(), null, true);
+                    }
+                    case "countByCriteria" -> {
+                        LockSupport.parkNanos(COUNT_LATENCY);
+                        yield 1000L;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class PassThroughUnitOfWork implements UnitOfWork {
+
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public void run(Runnable work) {
+            work.run();
+        }
+
+        @Override
+        public <T> T readOnly(Supplier<T> work) {
+            return work.get();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListFanOutBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
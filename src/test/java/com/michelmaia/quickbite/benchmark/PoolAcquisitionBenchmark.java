@@ -0,0 +1,84 @@
+package com.michelmaia.quickbite.benchmark;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.infrastructure.persistence.common.TransactionalUnitOfWork;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool acquisitions per write command: the statement sequence of a restaurant insert
+ * (address, restaurant, re-read) with auto-commit versus inside a UnitOfWork.
+ * Compare the "acquisitions" and "requests" counters (3 vs 1 per request); the stub DataSource does no I/O.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Threads(1)
+public class PoolAcquisitionBenchmark {
+
+    private CountingDataSource dataSource;
+    private JdbcClient jdbcClient;
+    private UnitOfWork unitOfWork;
+
+    @Setup
+    public void setUp() {
+        dataSource = new CountingDataSource();
+        jdbcClient = JdbcClient.create(dataSource.dataSource());
+        unitOfWork = new TransactionalUnitOfWork(new DataSourceTransactionManager(dataSource.dataSource()));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Acquisitions {
+        public long requests;
+        public long acquisitions;
+    }
+
+    @Benchmark
+    public Long autoCommit(Acquisitions counters) {
+        long before = dataSource.acquisitions();
+        Long id = insertRestaurant();
+        counters.requests++;
+        counters.acquisitions += dataSource.acquisitions() - before;
+        return id;
+    }
+
+    @Benchmark
+    public Long unitOfWork(Acquisitions counters) {
+        long before = dataSource.acquisitions();
+        Long id = unitOfWork.execute(this::insertRestaurant);
+        counters.requests++;
+        counters.acquisitions += dataSource.acquisitions() - before;
+        return id;
+    }
+
+    private Long insertRestaurant() {
+        Long addressId = jdbcClient.sql("INSERT INTO addresses (street) VALUES (:street) RETURNING id")
+                .param("street", "Benchmark Street")
+                .query(Long.class)
+                .single();
+        Long restaurantId = jdbcClient.sql("INSERT INTO restaurants (address_id) VALUES (:addressId) RETURNING id")
+                .param("addressId", addressId)
+                .query(Long.class)
+                .single();
+        return jdbcClient.sql("SELECT id FROM restaurants WHERE id = :id")
+                .param("id", restaurantId)
+                .query(Long.class)
+                .single();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PoolAcquisitionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -4,6 +4,7 @@ import com.michelmaia.quickbite.BaseIntegrationTest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.ChangePasswordRequest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginRequest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginResponse;
+import com.michelmaia.quickbite.presentation.rest.auth.dto.RefreshTokenRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.*;
 import org.springframework.test.context.jdbc.Sql;
@@ -30,6 +31,50 @@ class LoginControllerIntegrationTest extends BaseIntegrationTest {
         assertThat(loginResponse.getBody().token()).isNotNull();
     }
 
+    @Test
+    void shouldRotateRefreshTokens() {
+        // Given
+        LoginResponse login = restTemplate.postForEntity(
+                getBaseUrl() + "/api/login",
+                new LoginRequest("testowner", "admin"),
+                LoginResponse.class
+        ).getBody();
+        assertThat(login).isNotNull();
+        assertThat(login.refreshToken()).isNotNull();
+
+        // When
+        ResponseEntity<LoginResponse> refreshed = refresh(login.refreshToken());
+
+        // Then
+        assertThat(refreshed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(refreshed.getBody()).isNotNull();
+        assertThat(refreshed.getBody().username()).isEqualTo("testowner");
+        assertThat(refreshed.getBody().token()).isNotNull();
+        assertThat(refreshed.getBody().refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(refresh(refreshed.getBody().refreshToken()).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void shouldRevokeTokenFamilyWhenRefreshTokenIsReused() {
+        // Given
+        LoginResponse login = restTemplate.postForEntity(
+                getBaseUrl() + "/api/login",
+                new LoginRequest("testowner", "admin"),
+                LoginResponse.class
+        ).getBody();
+        assertThat(login).isNotNull();
+        LoginResponse rotated = refresh(login.refreshToken()).getBody();
+        assertThat(rotated).isNotNull();
+
+        // When
+        ResponseEntity<LoginResponse> replay = refresh(login.refreshToken());
+
+        // Then
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(refresh(rotated.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(refresh("unknown-refresh-token").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
     @Test
     void shouldNotLoginWithWrongPassword() {
         // Given
@@ -153,4 +198,12 @@ class LoginControllerIntegrationTest extends BaseIntegrationTest {
         // Then
         assertThat(changePasswordResponse.getStatusCode().is4xxClientError()).isTrue();
     }
+
+    private ResponseEntity<LoginResponse> refresh(String refreshToken) {
+        return restTemplate.postForEntity(
+                getBaseUrl() + "/api/token/refresh",
+                new RefreshTokenRequest(refreshToken),
+                LoginResponse.class
+        );
+    }
 }
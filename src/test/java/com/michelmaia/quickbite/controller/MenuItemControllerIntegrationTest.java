@@ -1,18 +1,26 @@
 package com.michelmaia.quickbite.controller;
 
 import com.michelmaia.quickbite.BaseIntegrationTest;
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginRequest;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginResponse;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkImportResponse;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkMenuItemRequest;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.CreateMenuItemRequest;
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.DishResponse;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.MenuItemResponse;
 import com.michelmaia.quickbite.presentation.rest.menuitem.dto.UpdateMenuItemRequest;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
@@ -158,6 +166,100 @@ class MenuItemControllerIntegrationTest extends BaseIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
     }
 
+    @Test
+    void shouldImportMenuItemsAndReportRejectedRows() {
+        // Given
+        List<BulkMenuItemRequest> items = List.of(
+                new BulkMenuItemRequest("Lasagna", "Layered pasta", 18.5, null, true),
+                new BulkMenuItemRequest("X", "Too short a name", 5.0, null, true),
+                new BulkMenuItemRequest("Tiramisu", "Coffee dessert", 9.0, null, false)
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+
+        // When
+        ResponseEntity<BulkImportResponse> response = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/bulk?restaurantId=1",
+                HttpMethod.POST,
+                new HttpEntity<>(items, headers),
+                BulkImportResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().imported()).isEqualTo(2);
+        assertThat(response.getBody().rejected()).isEqualTo(1);
+        assertThat(response.getBody().rows()).extracting(BulkImportResponse.RowResult::status)
+                .containsExactly("IMPORTED", "REJECTED", "IMPORTED");
+        assertThat(response.getBody().rows().get(1).error()).isEqualTo("Name must be between 2 and 100 characters");
+
+        ResponseEntity<MenuItemResponse> tiramisu = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/" + response.getBody().rows().get(2).id(),
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                MenuItemResponse.class
+        );
+        assertThat(tiramisu.getBody()).isNotNull();
+        assertThat(tiramisu.getBody().name()).isEqualTo("Tiramisu");
+        assertThat(tiramisu.getBody().isAvailable()).isFalse();
+    }
+
+    @Test
+    void shouldImportMenuItemsFromCsv() {
+        // Given
+        String csv = """
+                name,description,price,is_available
+                Calzone,"Folded pizza, ham and cheese",21.00,true
+                Bruschetta,,7.5,
+                """;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        headers.setBearerAuth(authToken);
+
+        // When
+        ResponseEntity<BulkImportResponse> response = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/bulk?restaurantId=1",
+                HttpMethod.POST,
+                new HttpEntity<>(csv, headers),
+                BulkImportResponse.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().imported()).isEqualTo(2);
+
+        HttpHeaders listHeaders = new HttpHeaders();
+        listHeaders.setBearerAuth(authToken);
+        ResponseEntity<MenuItemResponse[]> menu = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/restaurant?restaurantId=1",
+                HttpMethod.GET,
+                new HttpEntity<>(listHeaders),
+                MenuItemResponse[].class
+        );
+        assertThat(menu.getBody()).extracting(MenuItemResponse::name).contains("Calzone", "Bruschetta");
+    }
+
+    @Test
+    void shouldNotImportMenuItemsForNonExistentRestaurant() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/bulk?restaurantId=999",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(new BulkMenuItemRequest("Lasagna", null, 18.5, null, null)), headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     void shouldFindAllAvailableMenuItemsByRestaurant() {
         // Given
@@ -205,6 +307,42 @@ class MenuItemControllerIntegrationTest extends BaseIntegrationTest {
         assertThat(response.getBody().length).isGreaterThan(0);
     }
 
+    @Test
+    void shouldRevalidateMenuWithETag() {
+        // Given
+        String url = getBaseUrl() + "/api/menu-items/restaurant?restaurantId=1";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<MenuItemResponse[]> first = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers), MenuItemResponse[].class);
+        String eTag = first.getHeaders().getETag();
+        headers.setIfNoneMatch(eTag);
+
+        // When
+        ResponseEntity<MenuItemResponse[]> unchanged = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers), MenuItemResponse[].class);
+
+        HttpHeaders updateHeaders = new HttpHeaders();
+        updateHeaders.setContentType(MediaType.APPLICATION_JSON);
+        updateHeaders.setBearerAuth(authToken);
+        restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/1",
+                HttpMethod.PUT,
+                new HttpEntity<>(new UpdateMenuItemRequest("Renamed Menu Item", null, null, null, null), updateHeaders),
+                MenuItemResponse.class
+        );
+
+        ResponseEntity<MenuItemResponse[]> changed = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers), MenuItemResponse[].class);
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
     @Test
     void shouldFindMenuItemById() {
         // Given
@@ -260,17 +398,129 @@ class MenuItemControllerIntegrationTest extends BaseIntegrationTest {
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         // When
-        ResponseEntity<MenuItemResponse[]> response = restTemplate.exchange(
+        ResponseEntity<PageResponseDTO<MenuItemResponse>> response = restTemplate.exchange(
                 getBaseUrl() + "/api/menu-items/restaurant/search?name=" + name + "&restaurantId=" + restaurantId,
                 HttpMethod.GET,
                 request,
-                MenuItemResponse[].class
+                new ParameterizedTypeReference<PageResponseDTO<MenuItemResponse>>() {
+                }
         );
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().length).isGreaterThan(0);
+        assertThat(response.getBody().getData().size()).isGreaterThan(0);
+        assertThat(response.getBody().getTotalElements()).isEqualTo(response.getBody().getData().size());
+    }
+
+    @Test
+    void shouldSearchMenuItemsWithTyposAndDescriptionWords() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+        String searchUrl = getBaseUrl() + "/api/menu-items/restaurant/search?restaurantId=1&name=";
+
+        // When
+        ResponseEntity<PageResponseDTO<MenuItemResponse>> typo = restTemplate.exchange(
+                searchUrl + "piza",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<MenuItemResponse>>() {
+                }
+        );
+        ResponseEntity<PageResponseDTO<MenuItemResponse>> description = restTemplate.exchange(
+                searchUrl + "delicious",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<MenuItemResponse>>() {
+                }
+        );
+        ResponseEntity<PageResponseDTO<MenuItemResponse>> noMatch = restTemplate.exchange(
+                searchUrl + "sushi",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<MenuItemResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(typo.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(typo.getBody()).isNotNull();
+        assertThat(typo.getBody().getData()).extracting(MenuItemResponse::name).containsExactly("Test Pizza");
+
+        assertThat(description.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(description.getBody()).isNotNull();
+        assertThat(description.getBody().getData()).extracting(MenuItemResponse::name).containsExactly("Test Pizza");
+
+        assertThat(noMatch.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(noMatch.getBody()).isNotNull();
+        assertThat(noMatch.getBody().getData()).isEmpty();
+        assertThat(noMatch.getBody().getTotalElements()).isZero();
+    }
+
+    @Test
+    void shouldSearchAvailableDishesAcrossRestaurants() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+        String searchUrl = getBaseUrl() + "/api/menu-items/search?q=piza&size=5";
+
+        // When
+        ResponseEntity<CursorPageResponseDTO<DishResponse>> found = restTemplate.exchange(
+                searchUrl,
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<CursorPageResponseDTO<DishResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(found.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(found.getBody()).isNotNull();
+        assertThat(found.getBody().getData()).hasSize(1);
+        assertThat(found.getBody().isHasNext()).isFalse();
+        DishResponse dish = found.getBody().getData().get(0);
+        assertThat(dish.name()).isEqualTo("Test Pizza");
+        assertThat(dish.restaurant().id()).isEqualTo(1L);
+        assertThat(dish.restaurant().name()).isEqualTo("Test Restaurant");
+
+        // Given: the dish is hidden from the menu
+        UpdateMenuItemRequest hide = new UpdateMenuItemRequest(
+                "Test Pizza", "Delicious test pizza", 25.99, "http://example.com/pizza.jpg", false);
+        restTemplate.exchange(getBaseUrl() + "/api/menu-items/1", HttpMethod.PUT,
+                new HttpEntity<>(hide, headers), MenuItemResponse.class);
+
+        // When
+        ResponseEntity<CursorPageResponseDTO<DishResponse>> hidden = restTemplate.exchange(
+                searchUrl,
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<CursorPageResponseDTO<DishResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(hidden.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hidden.getBody()).isNotNull();
+        assertThat(hidden.getBody().getData()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidDishSearchCursor() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                getBaseUrl() + "/api/menu-items/search?q=pizza&cursor=not-a-cursor",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
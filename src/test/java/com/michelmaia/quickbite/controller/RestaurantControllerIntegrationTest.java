@@ -1,6 +1,7 @@
 package com.michelmaia.quickbite.controller;
 
 import com.michelmaia.quickbite.BaseIntegrationTest;
+import com.michelmaia.quickbite.application.dto.CursorPageResponseDTO;
 import com.michelmaia.quickbite.application.dto.PageResponseDTO;
 import com.michelmaia.quickbite.domain.user.repository.UserRepository;
 import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginRequest;
@@ -8,6 +9,7 @@ import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginResponse;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.CreateRestaurantRequest;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.RestaurantResponse;
 import com.michelmaia.quickbite.presentation.rest.restaurant.dto.UpdateRestaurantRequest;
+import com.michelmaia.quickbite.presentation.rest.restaurant.dto.WeeklyScheduleRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,12 @@ import org.springframework.http.*;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
@@ -294,6 +302,36 @@ class RestaurantControllerIntegrationTest extends BaseIntegrationTest {
     }
 
 
+    @Test
+    void shouldAnswerNotModifiedForMatchingETag() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<RestaurantResponse> first = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/1",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                RestaurantResponse.class
+        );
+        String eTag = first.getHeaders().getETag();
+
+        // When
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<RestaurantResponse> second = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/1",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                RestaurantResponse.class
+        );
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(eTag).isNotBlank().doesNotStartWith("W/");
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+    }
+
     @Test
     void shouldGetAllRestaurants() {
         // Given
@@ -317,6 +355,138 @@ class RestaurantControllerIntegrationTest extends BaseIntegrationTest {
     }
 
 
+    @Test
+    void shouldListRestaurantsWithoutTotal() {
+        // Given
+        createRestaurant("Page One");
+        createRestaurant("Page Two");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> withTotal = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?size=1",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> withoutTotal = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?size=1&withTotal=false",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(withTotal.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(withTotal.getBody()).isNotNull();
+        assertThat(withTotal.getBody().getTotalElements()).isGreaterThanOrEqualTo(2L);
+        assertThat(withTotal.getBody().isHasNext()).isTrue();
+
+        assertThat(withoutTotal.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(withoutTotal.getBody()).isNotNull();
+        assertThat(withoutTotal.getBody().getData()).hasSize(1);
+        assertThat(withoutTotal.getBody().getTotalElements()).isNull();
+        assertThat(withoutTotal.getBody().isHasNext()).isTrue();
+    }
+
+    @Test
+    void shouldCombineRestaurantFilters() {
+        // Given: the seeded "Test Restaurant" is Italian rated 4.5, the new one Italian rated 4.0
+        createRestaurant("Pasta Place");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> cuisineAndRating = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?cuisine=italian&minRating=4.4&isOpen=true&city=test city",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> namePrefix = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?name=PASTA&state=ts&sort=top_rated",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> otherCity = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?cuisine=Italian&city=Nowhere",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+        ResponseEntity<String> unknownSort = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?sort=cheapest",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+
+        // Then
+        assertThat(cuisineAndRating.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(cuisineAndRating.getBody()).isNotNull();
+        assertThat(cuisineAndRating.getBody().getData()).extracting(RestaurantResponse::name)
+                .containsExactly("Test Restaurant");
+        assertThat(cuisineAndRating.getBody().getTotalElements()).isEqualTo(1L);
+
+        assertThat(namePrefix.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(namePrefix.getBody()).isNotNull();
+        assertThat(namePrefix.getBody().getData()).extracting(RestaurantResponse::name)
+                .containsExactly("Pasta Place");
+
+        assertThat(otherCity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(otherCity.getBody()).isNotNull();
+        assertThat(otherCity.getBody().getData()).isEmpty();
+        assertThat(otherCity.getBody().getTotalElements()).isZero();
+
+        assertThat(unknownSort.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldListOnlyRestaurantsOpenNowBySchedule() {
+        // Given: open around the clock, never open, and open around the clock but closed by hand
+        var address = new CreateRestaurantRequest.AddressRequest("123 Test St", "Test City", "TS", "12345");
+        var everyDay = Arrays.stream(DayOfWeek.values())
+                .map(day -> new WeeklyScheduleRequest.ShiftRequest(day, LocalTime.MIDNIGHT, LocalTime.MIDNIGHT))
+                .toList();
+        RestaurantResponse allDay = postRestaurant(new CreateRestaurantRequest(ownerId, "All Day Diner", "American",
+                address, "24/7", 4.0, true, new WeeklyScheduleRequest("America/Sao_Paulo", everyDay)));
+        postRestaurant(new CreateRestaurantRequest(ownerId, "Closed Cafe", "American",
+                address, "Never", 4.0, true, new WeeklyScheduleRequest("UTC", List.of())));
+        postRestaurant(new CreateRestaurantRequest(ownerId, "Paused Pub", "American",
+                address, "24/7", 4.0, false, new WeeklyScheduleRequest("Europe/Lisbon", everyDay)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        // When
+        ResponseEntity<PageResponseDTO<RestaurantResponse>> response = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants?openNow=true",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                new ParameterizedTypeReference<PageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(allDay.schedule().timeZone()).isEqualTo("America/Sao_Paulo");
+        assertThat(allDay.schedule().shifts()).hasSize(7);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getData()).extracting(RestaurantResponse::name)
+                .containsExactly("All Day Diner");
+    }
+
     @Test
     void shouldGetRestaurantByCuisine() {
         // Given
@@ -369,6 +539,176 @@ class RestaurantControllerIntegrationTest extends BaseIntegrationTest {
     }
 
 
+    @Test
+    void shouldScrollRestaurantsWithCursor() {
+        // Given - Three restaurants in total
+        createRestaurant("Second Restaurant");
+        createRestaurant("Third Restaurant");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When
+        ResponseEntity<CursorPageResponseDTO<RestaurantResponse>> firstPage = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/scroll?size=2",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<CursorPageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).isNotNull();
+        assertThat(firstPage.getBody().getData()).hasSize(2);
+        assertThat(firstPage.getBody().isHasNext()).isTrue();
+
+        // When - Follow the cursor
+        ResponseEntity<CursorPageResponseDTO<RestaurantResponse>> secondPage = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/scroll?size=2&cursor=" + firstPage.getBody().getNextCursor(),
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<CursorPageResponseDTO<RestaurantResponse>>() {
+                }
+        );
+
+        // Then
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody()).isNotNull();
+        assertThat(secondPage.getBody().getData()).hasSize(1);
+        assertThat(secondPage.getBody().isHasNext()).isFalse();
+        assertThat(secondPage.getBody().getNextCursor()).isNull();
+        assertThat(secondPage.getBody().getData().get(0).id())
+                .isNotIn(firstPage.getBody().getData().stream().map(RestaurantResponse::id).toList());
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When
+        ResponseEntity<String> response = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/scroll?cursor=not-a-cursor",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("Invalid cursor");
+    }
+
+    @Test
+    void shouldFindNearbyRestaurantsOrderedByDistance() {
+        // Given - two restaurants in the city, one on the coast and the seeded one without a location
+        createRestaurant("Paulista Pizza", "Italian", new CreateRestaurantRequest.AddressRequest(
+                "1578 Paulista Ave", "Sao Paulo", "SP", "01310-200", -23.5614, -46.6559));
+        createRestaurant("Liberdade Sushi", "Japanese", new CreateRestaurantRequest.AddressRequest(
+                "10 Galvao Bueno St", "Sao Paulo", "SP", "01506-000", -23.5555, -46.6355));
+        createRestaurant("Santos Fish", "Italian", new CreateRestaurantRequest.AddressRequest(
+                "1 Beira Mar Ave", "Santos", "SP", "11060-000", -23.9608, -46.3336));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        String url = getBaseUrl() + "/api/restaurants/nearby?lat=-23.5613&lon=-46.6565&radiusKm=10";
+
+        // When
+        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers),
+                new ParameterizedTypeReference<>() {});
+        ResponseEntity<List<Map<String, Object>>> italian = restTemplate.exchange(
+                url + "&cuisine=italian", HttpMethod.GET, new HttpEntity<>(headers),
+                new ParameterizedTypeReference<>() {});
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(restaurant -> restaurant.get("name"))
+                .containsExactly("Paulista Pizza", "Liberdade Sushi");
+        assertThat(((Number) response.getBody().get(0).get("distanceKm")).doubleValue()).isLessThan(0.1);
+        assertThat(((Number) response.getBody().get(1).get("distanceKm")).doubleValue()).isBetween(2.0, 2.5);
+        assertThat(italian.getBody()).extracting(restaurant -> restaurant.get("name"))
+                .containsExactly("Paulista Pizza");
+    }
+
+    @Test
+    void shouldRejectNearbySearchOutsideValidRange() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<String> badLatitude = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/nearby?lat=91&lon=0",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        ResponseEntity<String> badRadius = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/nearby?lat=0&lon=0&radiusKm=500",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(badLatitude.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(badRadius.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldExportCatalogWithMenusForAdmin() {
+        // Given
+        LoginResponse adminLogin = restTemplate.postForEntity(
+                getBaseUrl() + "/api/login",
+                new LoginRequest("admin", "admin"),
+                LoginResponse.class
+        ).getBody();
+        assertThat(adminLogin).isNotNull();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(adminLogin.token());
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When
+        ResponseEntity<String> ndjson = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/export?withMenus=true",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+        ResponseEntity<String> csv = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/export?format=csv",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+
+        // Then
+        assertThat(ndjson.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ndjson.getHeaders().getContentType()).isNotNull();
+        assertThat(ndjson.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("application/x-ndjson")))
+                .isTrue();
+        assertThat(ndjson.getBody()).isNotNull();
+        String[] lines = ndjson.getBody().split("\n");
+        assertThat(lines[0]).contains("\"name\":\"Test Restaurant\"", "\"menu\":[", "\"name\":\"Test Pizza\"");
+
+        assertThat(csv.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(csv.getBody()).isNotNull();
+        assertThat(csv.getBody().split("\n")).hasSize(lines.length + 1);
+        assertThat(csv.getBody()).startsWith("id,owner_id,name,cuisine,").contains("Test Restaurant");
+    }
+
+    @Test
+    void shouldNotExportCatalogForOwner() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/export",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
     @Test
     void shouldReturnNotFoundForNonExistentRestaurant() {
         // Given
@@ -469,4 +809,40 @@ class RestaurantControllerIntegrationTest extends BaseIntegrationTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
     }
-}
\ No newline at end of file
+
+    private void createRestaurant(String name) {
+        createRestaurant(name, "Italian", new CreateRestaurantRequest.AddressRequest(
+                "123 Test St",
+                "Test City",
+                "TS",
+                "12345"
+        ));
+    }
+
+    private void createRestaurant(String name, String cuisine, CreateRestaurantRequest.AddressRequest addressRequest) {
+        postRestaurant(new CreateRestaurantRequest(
+                ownerId,
+                name,
+                cuisine,
+                addressRequest,
+                "9:00-22:00",
+                4.0,
+                true
+        ));
+    }
+
+    private RestaurantResponse postRestaurant(CreateRestaurantRequest createRequest) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+
+        ResponseEntity<RestaurantResponse> response = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants",
+                HttpMethod.POST,
+                new HttpEntity<>(createRequest, headers),
+                RestaurantResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+}
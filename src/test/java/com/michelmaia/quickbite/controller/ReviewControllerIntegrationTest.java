@@ -0,0 +1,122 @@
+package com.michelmaia.quickbite.controller;
+
+import com.michelmaia.quickbite.BaseIntegrationTest;
+import com.michelmaia.quickbite.application.dto.PageResponseDTO;
+import com.michelmaia.quickbite.application.usecase.review.ApplyPendingRatingsUseCase;
+import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginRequest;
+import com.michelmaia.quickbite.presentation.rest.auth.dto.LoginResponse;
+import com.michelmaia.quickbite.presentation.rest.restaurant.dto.RestaurantResponse;
+import com.michelmaia.quickbite.presentation.rest.review.dto.CreateReviewRequest;
+import com.michelmaia.quickbite.presentation.rest.review.dto.ReviewResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReviewControllerIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ApplyPendingRatingsUseCase applyPendingRatingsUseCase;
+
+    @Test
+    void shouldFoldReviewsIntoRunningRating() {
+        // Given
+        assertThat(postReview("testnormaluser", 1L, 5).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(postReview("admin", 1L, 2).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        // The rating set by the owner stands until the pending ratings are folded in
+        assertThat(getRestaurant(1L).rating()).isEqualTo(4.5);
+
+        // When
+        int updated = applyPendingRatingsUseCase.execute();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(getRestaurant(1L).rating()).isEqualTo(3.5);
+        assertThat(applyPendingRatingsUseCase.execute()).isZero();
+
+        ResponseEntity<PageResponseDTO<ReviewResponse>> page = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/1/reviews?page=0&size=10",
+                HttpMethod.GET,
+                new HttpEntity<>(authHeaders(login("testnormaluser"))),
+                new ParameterizedTypeReference<PageResponseDTO<ReviewResponse>>() {
+                }
+        );
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(page.getBody()).isNotNull();
+        assertThat(page.getBody().getTotalElements()).isEqualTo(2);
+        assertThat(page.getBody().getData()).extracting(ReviewResponse::rating).containsExactly(2, 5);
+    }
+
+    @Test
+    void shouldRejectSecondReviewOfSameRestaurant() {
+        // Given
+        assertThat(postReview("testnormaluser", 1L, 4).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        // When
+        ResponseEntity<String> response = postReview("testnormaluser", 1L, 1);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        applyPendingRatingsUseCase.execute();
+        assertThat(getRestaurant(1L).rating()).isEqualTo(4.0);
+    }
+
+    @Test
+    void shouldNotLetOwnerReviewOwnRestaurant() {
+        ResponseEntity<String> response = postReview("testowner", 1L, 5);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void shouldRejectInvalidReviews() {
+        assertThat(postReview("testnormaluser", 1L, 6).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(postReview("testnormaluser", 999L, 5).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<String> postReview(String username, Long restaurantId, int rating) {
+        HttpHeaders headers = authHeaders(login(username));
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/" + restaurantId + "/reviews",
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateReviewRequest(rating, "Review by " + username), headers),
+                String.class
+        );
+    }
+
+    private RestaurantResponse getRestaurant(Long id) {
+        ResponseEntity<RestaurantResponse> response = restTemplate.exchange(
+                getBaseUrl() + "/api/restaurants/" + id,
+                HttpMethod.GET,
+                new HttpEntity<>(authHeaders(login("testnormaluser"))),
+                RestaurantResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private String login(String username) {
+        ResponseEntity<LoginResponse> loginResponse = restTemplate.postForEntity(
+                getBaseUrl() + "/api/login",
+                new LoginRequest(username, "admin"),
+                LoginResponse.class
+        );
+        if (loginResponse.getStatusCode() != HttpStatus.OK || loginResponse.getBody() == null) {
+            throw new IllegalStateException("Failed to authenticate " + username + ". Status: " + loginResponse.getStatusCode());
+        }
+        return loginResponse.getBody().token();
+    }
+
+    private static HttpHeaders authHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
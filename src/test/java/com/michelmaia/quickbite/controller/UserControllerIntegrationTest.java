@@ -184,6 +184,29 @@ class UserControllerIntegrationTest extends BaseIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().username()).isEqualTo("testowner");
+        assertThat(response.getBody().roles()).isEqualTo(List.of("OWNER"));
+    }
+
+    @Test
+    void shouldListUsersByRoleWithTheirRoles() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        // When - OWNER role has id 2
+        ResponseEntity<String> response = restTemplate.exchange(
+                getBaseUrl() + "/api/users?roleId=2",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("testowner");
+        assertThat(response.getBody()).contains("\"roles\":[\"OWNER\"]");
+        assertThat(response.getBody()).doesNotContain("testnormaluser");
     }
 
     @Test
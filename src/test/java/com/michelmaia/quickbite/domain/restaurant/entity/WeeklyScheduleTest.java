@@ -0,0 +1,97 @@
+package com.michelmaia.quickbite.domain.restaurant.entity;
+
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule.Interval;
+import com.michelmaia.quickbite.domain.restaurant.entity.WeeklySchedule.Shift;
+import com.michelmaia.quickbite.domain.restaurant.exception.InvalidRestaurantDataException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeeklyScheduleTest {
+
+    private static final String SAO_PAULO = "America/Sao_Paulo";
+
+    @Test
+    void shouldBeOpenDuringSplitShiftsOnly() {
+        WeeklySchedule schedule = WeeklySchedule.of(SAO_PAULO, List.of(
+                shift(DayOfWeek.TUESDAY, "11:00", "15:00"),
+                shift(DayOfWeek.TUESDAY, "18:00", "23:00")));
+
+        // 2025-06-10 is a Tuesday
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-10T11:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-10T14:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-10T15:00"))).isFalse();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-10T19:30"))).isTrue();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-10T10:59"))).isFalse();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-11T12:00"))).isFalse();
+    }
+
+    @Test
+    void shouldRunOvernightShiftsIntoTheNextDayAndWrapSundayIntoMonday() {
+        WeeklySchedule schedule = WeeklySchedule.of(SAO_PAULO, List.of(
+                shift(DayOfWeek.FRIDAY, "22:00", "02:00"),
+                shift(DayOfWeek.SUNDAY, "20:00", "01:30")));
+
+        // 2025-06-13 is a Friday, 2025-06-15 a Sunday
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-14T01:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-14T02:00"))).isFalse();
+        assertThat(schedule.isOpenAt(at(SAO_PAULO, "2025-06-16T01:00"))).isTrue();
+        assertThat(schedule.getIntervals()).containsExactly(
+                new Interval(0, 90),
+                new Interval(4 * 1440 + 22 * 60, 5 * 1440 + 120),
+                new Interval(6 * 1440 + 20 * 60, WeeklySchedule.MINUTES_PER_WEEK));
+        assertThat(schedule.getShifts()).containsExactly(
+                shift(DayOfWeek.FRIDAY, "22:00", "02:00"),
+                shift(DayOfWeek.SUNDAY, "20:00", "01:30"));
+    }
+
+    @Test
+    void shouldEvaluateInTheRestaurantTimeZone() {
+        WeeklySchedule schedule = WeeklySchedule.of("Europe/Lisbon", List.of(shift(DayOfWeek.MONDAY, "09:00", "17:00")));
+
+        // Summer time: Lisbon is UTC+1, so 08:30 UTC is 09:30 local; in winter it is UTC+0
+        assertThat(schedule.isOpenAt(Instant.parse("2025-06-09T08:30:00Z"))).isTrue();
+        assertThat(schedule.isOpenAt(Instant.parse("2025-12-01T08:30:00Z"))).isFalse();
+        assertThat(schedule.isOpenAt(Instant.parse("2025-12-01T09:00:00Z"))).isTrue();
+    }
+
+    @Test
+    void shouldMergeOverlappingShiftsAndRebuildWholeDays() {
+        WeeklySchedule schedule = WeeklySchedule.of(SAO_PAULO, List.of(
+                shift(DayOfWeek.MONDAY, "00:00", "00:00"),
+                shift(DayOfWeek.TUESDAY, "00:00", "12:00"),
+                shift(DayOfWeek.TUESDAY, "10:00", "14:00")));
+
+        assertThat(schedule.getIntervals()).containsExactly(new Interval(0, 1440 + 14 * 60));
+        assertThat(schedule.getShifts()).containsExactly(
+                shift(DayOfWeek.MONDAY, "00:00", "00:00"),
+                shift(DayOfWeek.TUESDAY, "00:00", "14:00"));
+        assertThat(WeeklySchedule.of(SAO_PAULO, schedule.getShifts())).isEqualTo(schedule);
+        assertThat(WeeklySchedule.ofIntervals(SAO_PAULO, schedule.getIntervals())).isEqualTo(schedule);
+    }
+
+    @Test
+    void shouldRejectUnknownTimeZonesAndPartialMinutes() {
+        assertThatThrownBy(() -> WeeklySchedule.of("Mars/Olympus_Mons", List.of()))
+                .isInstanceOf(InvalidRestaurantDataException.class)
+                .hasMessageContaining("Unknown time zone");
+        assertThatThrownBy(() -> new Shift(DayOfWeek.MONDAY, LocalTime.of(9, 0, 30), LocalTime.NOON))
+                .isInstanceOf(InvalidRestaurantDataException.class);
+    }
+
+    private static Shift shift(DayOfWeek day, String opens, String closes) {
+        return new Shift(day, LocalTime.parse(opens), LocalTime.parse(closes));
+    }
+
+    private static Instant at(String zone, String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(ZoneId.of(zone)).toInstant();
+    }
+}
@@ -0,0 +1,179 @@
+package com.michelmaia.quickbite.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.michelmaia.quickbite.BaseIntegrationTest;
+import com.michelmaia.quickbite.domain.common.entity.GeoPoint;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCursor;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
+import com.michelmaia.quickbite.domain.user.entity.Role;
+import com.michelmaia.quickbite.domain.user.entity.User;
+import com.michelmaia.quickbite.infrastructure.persistence.StatementRecorder.RecordedStatement;
+import com.michelmaia.quickbite.infrastructure.persistence.menuitem.MenuItemJdbcMapper;
+import com.michelmaia.quickbite.infrastructure.persistence.menuitem.MenuItemRepositoryAdapter;
+import com.michelmaia.quickbite.infrastructure.persistence.restaurant.RestaurantJdbcMapper;
+import com.michelmaia.quickbite.infrastructure.persistence.restaurant.RestaurantRepositoryAdapter;
+import com.michelmaia.quickbite.infrastructure.persistence.user.UserJdbcMapper;
+import com.michelmaia.quickbite.infrastructure.persistence.user.UserRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the SQL each repository adapter sends under EXPLAIN against a seeded database
+ * and fails when a plan reads one of the large tables with a sequential scan.
+ * Unfiltered counts (count()) read every row by design and are not covered.
+ */
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/plan-seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class QueryPlanRegressionTest extends BaseIntegrationTest {
+
+    private static final Set<String> SEEDED_TABLES =
+            Set.of("addresses", "users", "user_roles", "restaurants", "menu_items");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementRecorder recorder;
+    private RestaurantRepositoryAdapter restaurants;
+    private MenuItemRepositoryAdapter menuItems;
+    private UserRepositoryAdapter users;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new StatementRecorder(dataSource);
+        JdbcClient jdbcClient = JdbcClient.create(recorder.dataSource());
+        restaurants = new RestaurantRepositoryAdapter(jdbcClient, new JdbcTemplate(recorder.dataSource()),
+                new RestaurantJdbcMapper());
+        menuItems = new MenuItemRepositoryAdapter(jdbcClient, new JdbcTemplate(recorder.dataSource()),
+                new MenuItemJdbcMapper());
+        users = new UserRepositoryAdapter(jdbcClient, new UserJdbcMapper());
+    }
+
+    @Test
+    void restaurantQueriesShouldUseIndexes() {
+        Restaurant restaurant = restaurants.findById(1L).orElseThrow();
+        RestaurantCursor newest = new RestaurantCursor(RestaurantSortOrder.NEWEST, "2024-01-08T00:00", 10_000L);
+        RestaurantCursor topRated = new RestaurantCursor(RestaurantSortOrder.TOP_RATED, "4.9", 10_000L);
+
+        assertUsesIndexes("findById", () -> restaurants.findById(1L));
+        assertUsesIndexes("findByOwnerId", () -> restaurants.findByOwnerId(restaurant.getOwnerId()));
+        assertUsesIndexes("findUpdatedAtById", () -> restaurants.findUpdatedAtById(1L));
+        assertUsesIndexes("existsById", () -> restaurants.existsById(1L));
+        RestaurantCriteria cuisine = RestaurantCriteria.byCuisine("Seed Cuisine 7");
+        RestaurantCriteria rating = RestaurantCriteria.byMinRating(4.9);
+        RestaurantCriteria combined = new RestaurantCriteria("Seed Cuisine 7", 4.9, true, null, null, null, null);
+        RestaurantCriteria namePrefix = new RestaurantCriteria(null, null, null, null, null, "Seed Restaurant 1234", null);
+        RestaurantCriteria city = new RestaurantCriteria(null, null, null, "Test City", null, null, null);
+        RestaurantCriteria openNow = new RestaurantCriteria(null, null, null, true, null, null, null, null);
+
+        assertUsesIndexes("findByCriteria (any)", () -> restaurants.findByCriteria(RestaurantCriteria.any(), 0, 10));
+        assertUsesIndexes("findByCriteria (cuisine)", () -> restaurants.findByCriteria(cuisine, 0, 10));
+        assertUsesIndexes("findByCriteria (rating)", () -> restaurants.findByCriteria(rating, 0, 10));
+        assertUsesIndexes("findByCriteria (combined)", () -> restaurants.findByCriteria(combined, 0, 10));
+        assertUsesIndexes("findByCriteria (name prefix)", () -> restaurants.findByCriteria(namePrefix, 0, 10));
+        assertUsesIndexes("findByCriteria (city)", () -> restaurants.findByCriteria(city, 0, 10));
+        assertUsesIndexes("countByCriteria (open now)", () -> restaurants.countByCriteria(openNow));
+        assertUsesIndexes("findNearby (any)",
+                () -> restaurants.findNearby(new GeoPoint(-23.5, -46.5), 3, RestaurantCriteria.any(), 20));
+        assertUsesIndexes("findNearby (cuisine and open)",
+                () -> restaurants.findNearby(new GeoPoint(-23.5, -46.5), 3, combined, 20));
+        assertUsesIndexes("countByCriteria (cuisine)", () -> restaurants.countByCriteria(cuisine));
+        assertUsesIndexes("countByCriteria (rating)", () -> restaurants.countByCriteria(rating));
+        assertUsesIndexes("findByCriteriaAfter (any)",
+                () -> restaurants.findByCriteriaAfter(RestaurantCriteria.any(), newest, 10));
+        assertUsesIndexes("findByCriteriaAfter (cuisine)", () -> restaurants.findByCriteriaAfter(cuisine, newest, 10));
+        assertUsesIndexes("findByCriteriaAfter (rating)", () -> restaurants.findByCriteriaAfter(rating, topRated, 10));
+        assertUsesIndexes("save (update)", () -> restaurants.save(restaurant));
+    }
+
+    @Test
+    void menuItemQueriesShouldUseIndexes() {
+        assertUsesIndexes("findById", () -> menuItems.findById(1L));
+        assertUsesIndexes("existsById", () -> menuItems.existsById(1L));
+        assertUsesIndexes("findByRestaurantId", () -> menuItems.findByRestaurantId(1L));
+        assertUsesIndexes("findByRestaurantIdAndAvailability (available)",
+                () -> menuItems.findByRestaurantIdAndAvailability(1L, true));
+        assertUsesIndexes("findByRestaurantIdAndAvailability (hidden)",
+                () -> menuItems.findByRestaurantIdAndAvailability(1L, false));
+        assertUsesIndexes("findByRestaurantIdAndNameContaining",
+                () -> menuItems.findByRestaurantIdAndNameContaining(1L, "pizza"));
+        assertUsesIndexes("searchByRestaurantId",
+                () -> menuItems.searchByRestaurantId(1L, "piza", 0, 10, true));
+        assertUsesIndexes("countByRestaurantId", () -> menuItems.countByRestaurantId(1L));
+        assertUsesIndexes("findMenuVersion", () -> menuItems.findMenuVersion(1L));
+        assertUsesIndexes("save (update)", () -> menuItems.save(menuItems.findById(1L).orElseThrow()));
+    }
+
+    @Test
+    void userQueriesShouldUseIndexes() {
+        User seededUser = users.findByUsername("seeduser1").orElseThrow();
+
+        assertUsesIndexes("findById", () -> users.findById(seededUser.getId()));
+        assertUsesIndexes("findByUsername", () -> users.findByUsername("testowner"));
+        assertUsesIndexes("findByEmail", () -> users.findByEmail("owner@test.com"));
+        assertUsesIndexes("existsByUsername", () -> users.existsByUsername("testowner"));
+        assertUsesIndexes("existsByEmail", () -> users.existsByEmail("owner@test.com"));
+        assertUsesIndexes("findAll", () -> users.findAll(0, 10));
+        assertUsesIndexes("findByRole", () -> users.findByRole(Role.ADMIN.getId(), 0, 10));
+        assertUsesIndexes("countByRole", () -> users.countByRole(Role.ADMIN.getId()));
+        assertUsesIndexes("save (update)", () -> users.save(seededUser));
+        assertUsesIndexes("delete", () -> users.delete(seededUser));
+    }
+
+    private void assertUsesIndexes(String description, Runnable repositoryCall) {
+        recorder.drain();
+        repositoryCall.run();
+        List<RecordedStatement> statements = recorder.drain();
+
+        assertThat(statements).as(description).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            assertThat(sequentialScans(statement))
+                    .as("%s should not scan seeded tables sequentially:%n%s", description, statement.sql())
+                    .isEmpty();
+        }
+    }
+
+    private List<String> sequentialScans(RecordedStatement statement) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+            statement.bind(explain);
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                List<String> scans = new ArrayList<>();
+                collectSequentialScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), scans);
+                return scans;
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("EXPLAIN failed for: " + statement.sql(), e);
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scans) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && SEEDED_TABLES.contains(relation)) {
+            scans.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.michelmaia.quickbite.infrastructure.persistence;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wraps a DataSource and records every prepared statement executed through it, with its bound parameters,
+ * so the exact SQL a repository adapter sends can be replayed under EXPLAIN.
+ */
+final class StatementRecorder {
+
+    record RecordedStatement(String sql, Map<Integer, Object> parameters) {
+
+        void bind(PreparedStatement statement) throws Exception {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                if (parameter.getValue() instanceof NullValue nullValue) {
+                    statement.setNull(parameter.getKey(), nullValue.sqlType());
+                } else {
+                    statement.setObject(parameter.getKey(), parameter.getValue());
+                }
+            }
+        }
+    }
+
+    private record NullValue(int sqlType) {
+    }
+
+    private final DataSource target;
+    private final List<RecordedStatement> statements = new ArrayList<>();
+
+    StatementRecorder(DataSource target) {
+        this.target = target;
+    }
+
+    DataSource dataSource() {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                method.getName().equals("getConnection") ? connection((Connection) result) : result);
+    }
+
+    /**
+     * Returns the statements recorded since the last call
+     */
+    List<RecordedStatement> drain() {
+        List<RecordedStatement> recorded = List.copyOf(statements);
+        statements.clear();
+        return recorded;
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                method.getName().equals("prepareStatement")
+                        ? statement((PreparedStatement) result, (String) args[0])
+                        : result);
+    }
+
+    private PreparedStatement statement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.equals("setNull")) {
+                parameters.put((Integer) args[0], new NullValue((Integer) args[1]));
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.startsWith("execute")) {
+                statements.add(new RecordedStatement(sql, new TreeMap<>(parameters)));
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return afterCall.apply(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
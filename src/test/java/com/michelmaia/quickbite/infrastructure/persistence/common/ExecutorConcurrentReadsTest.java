@@ -0,0 +1,165 @@
+package com.michelmaia.quickbite.infrastructure.persistence.common;
+
+import com.michelmaia.quickbite.application.service.UnitOfWork;
+import com.michelmaia.quickbite.domain.restaurant.exception.RestaurantNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorConcurrentReadsTest {
+
+    private final AtomicInteger units = new AtomicInteger();
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void run(Runnable work) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T readOnly(Supplier<T> work) {
+            units.incrementAndGet();
+            return work.get();
+        }
+    };
+
+    private final ExecutorConcurrentReads reads = new ExecutorConcurrentReads(
+            Executors.newFixedThreadPool(2), unitOfWork, Duration.ofMillis(500));
+
+    @AfterEach
+    void tearDown() {
+        reads.close();
+    }
+
+    @Test
+    void shouldRunBothReadsAtTheSameTimeInTheirOwnUnits() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        String result = reads.both(
+                () -> meet(bothStarted, "page"),
+                () -> meet(bothStarted, "count"),
+                (page, count) -> page + "+" + count);
+
+        assertThat(result).isEqualTo("page+count");
+        assertThat(units).hasValue(2);
+    }
+
+    @Test
+    void shouldRethrowTheOtherReadsExceptionAsIs() {
+        assertThatThrownBy(() -> reads.both(() -> 1, () -> {
+            throw new RestaurantNotFoundException(7L);
+        }, Integer::sum)).isInstanceOf(RestaurantNotFoundException.class);
+    }
+
+    @Test
+    void shouldInterruptTheOtherReadWhenTheFirstFails() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> reads.both(() -> {
+            await(started);
+            throw new IllegalArgumentException("bad filter");
+        }, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 0;
+        }, (a, b) -> b)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldGiveUpAndInterruptTheOtherReadAtTheTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> reads.both(() -> 1, () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 0;
+        }, Integer::sum)).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldRunTheReadOnTheCallerWhenTheBoundedPoolIsBusy() throws Exception {
+        ExecutorConcurrentReads saturated = new ExecutorConcurrentReads(
+                ExecutorConcurrentReads.boundedPool(1, 0), unitOfWork, Duration.ofSeconds(5));
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Thread occupant = new Thread(() -> saturated.both(() -> {
+                await(release);
+                return 0;
+            }, () -> {
+                busy.countDown();
+                await(release);
+                return 0;
+            }, Integer::sum));
+            occupant.start();
+            assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Thread caller = Thread.currentThread();
+            boolean ranHere = saturated.both(() -> true, () -> Thread.currentThread() == caller, (a, b) -> b);
+
+            assertThat(ranHere).isTrue();
+            release.countDown();
+            occupant.join(5_000);
+        } finally {
+            release.countDown();
+            saturated.close();
+        }
+    }
+
+    @Test
+    void shouldRunBothOnTheCallerWithoutAnExecutor() {
+        ExecutorConcurrentReads direct = new ExecutorConcurrentReads(null, unitOfWork, Duration.ofMillis(500));
+        Thread caller = Thread.currentThread();
+
+        boolean sameThread = direct.both(Thread::currentThread, Thread::currentThread,
+                (first, second) -> first == caller && second == caller);
+
+        assertThat(sameThread).isTrue();
+        assertThat(units).hasValue(2);
+    }
+
+    private static String meet(CountDownLatch latch, String value) {
+        latch.countDown();
+        await(latch);
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("Reads did not overlap");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.michelmaia.quickbite.infrastructure.persistence.menuitem;
+
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuSnapshot;
+import com.michelmaia.quickbite.domain.menuitem.repository.MenuItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MenuSnapshotCacheAdapterTest {
+
+    private final MenuItemRepository repository = mock(MenuItemRepository.class);
+
+    @Test
+    void shouldServeFiltersFromOneSnapshot() {
+        when(repository.findMenuVersion(1L)).thenReturn(Optional.of(7L));
+        when(repository.findByRestaurantId(1L)).thenReturn(List.of(
+                item(2L, "Tiramisu", false),
+                item(1L, "Margherita Pizza", true)
+        ));
+        MenuSnapshotCacheAdapter cache = cache(true);
+
+        assertThat(cache.get(1L).items()).hasSize(2);
+        assertThat(cache.get(1L).byAvailability(true)).extracting(MenuItem::getName)
+                .containsExactly("Margherita Pizza");
+        assertThat(cache.get(1L).searchByName("PIZZA")).extracting(MenuItem::getId)
+                .containsExactly(1L);
+
+        verify(repository, times(1)).findByRestaurantId(1L);
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        when(repository.findMenuVersion(1L)).thenReturn(Optional.of(7L), Optional.of(8L));
+        when(repository.findByRestaurantId(1L)).thenReturn(
+                List.of(item(1L, "Margherita Pizza", true)),
+                List.of(item(1L, "Margherita Pizza", true), item(2L, "Tiramisu", true))
+        );
+        MenuSnapshotCacheAdapter cache = cache(true);
+
+        assertThat(cache.get(1L).getVersion()).isEqualTo(7L);
+        cache.evict(1L);
+        MenuSnapshot reloaded = cache.get(1L);
+
+        assertThat(reloaded.getVersion()).isEqualTo(8L);
+        assertThat(reloaded.items()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotCacheUnknownRestaurants() {
+        when(repository.findMenuVersion(99L)).thenReturn(Optional.empty());
+        MenuSnapshotCacheAdapter cache = cache(true);
+
+        assertThat(cache.get(99L).items()).isEmpty();
+        assertThat(cache.get(99L).items()).isEmpty();
+
+        verify(repository, times(2)).findMenuVersion(99L);
+        verify(repository, never()).findByRestaurantId(99L);
+    }
+
+    @Test
+    void shouldReturnCopiesOfCachedItems() {
+        when(repository.findMenuVersion(1L)).thenReturn(Optional.of(1L));
+        when(repository.findByRestaurantId(1L)).thenReturn(List.of(item(1L, "Margherita Pizza", true)));
+        MenuSnapshotCacheAdapter cache = cache(true);
+
+        cache.get(1L).items().get(0).markAsUnavailable();
+
+        assertThat(cache.get(1L).byAvailability(true)).hasSize(1);
+    }
+
+    private MenuSnapshotCacheAdapter cache(boolean enabled) {
+        return new MenuSnapshotCacheAdapter(repository, new SimpleMeterRegistry(), enabled, 100, 30_000, 600_000);
+    }
+
+    private static MenuItem item(Long id, String name, boolean available) {
+        LocalDateTime now = LocalDateTime.now();
+        return MenuItem.reconstruct(id, 1L, name, "desc", 10.0, null, available, now, now);
+    }
+}
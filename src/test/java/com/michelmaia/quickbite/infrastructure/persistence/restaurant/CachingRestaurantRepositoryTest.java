@@ -0,0 +1,147 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingRestaurantRepositoryTest {
+
+    private final RestaurantRepository delegate = mock(RestaurantRepository.class);
+    private final CachingRestaurantRepository repository = new CachingRestaurantRepository(
+            delegate, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @Test
+    void shouldLoadOnceAndReturnCopies() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)));
+
+        Restaurant first = repository.findById(1L).orElseThrow();
+        first.updateRating(1.0);
+        Restaurant second = repository.findById(1L).orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getRating()).isEqualTo(4.5);
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldNotCacheUnknownRestaurants() {
+        when(delegate.findById(99L)).thenReturn(Optional.empty(), Optional.of(restaurant(99L, 3.0)));
+
+        assertThat(repository.findById(99L)).isEmpty();
+        assertThat(repository.findById(99L)).isPresent();
+
+        verify(delegate, times(2)).findById(99L);
+    }
+
+    @Test
+    void shouldEvictOnSave() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)), Optional.of(restaurant(1L, 2.0)));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.findById(1L);
+
+        repository.save(restaurant(1L, 2.0));
+
+        assertThat(repository.findById(1L).orElseThrow().getRating()).isEqualTo(2.0);
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldEvictOnDelete() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)), Optional.empty());
+        Restaurant restaurant = repository.findById(1L).orElseThrow();
+
+        repository.delete(restaurant);
+
+        assertThat(repository.findById(1L)).isEmpty();
+        verify(delegate).delete(restaurant);
+    }
+
+    @Test
+    void shouldEvictRestaurantsWhoseRatingWasFolded() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)), Optional.of(restaurant(1L, 4.0)));
+        when(delegate.findById(2L)).thenReturn(Optional.of(restaurant(2L, 3.0)));
+        when(delegate.applyPendingRatings()).thenReturn(List.of(1L));
+        repository.findById(1L);
+        repository.findById(2L);
+
+        assertThat(repository.applyPendingRatings()).containsExactly(1L);
+
+        assertThat(repository.findById(1L).orElseThrow().getRating()).isEqualTo(4.0);
+        repository.findById(2L);
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    void shouldReadTheCommittedRowInsideAWriteUnitOfWork() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)), Optional.of(restaurant(1L, 2.0)));
+        repository.findById(1L);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(repository.findById(1L).orElseThrow().getRating()).isEqualTo(2.0);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldReplaceTheCachedEntryWithTheCurrentRow() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)), Optional.of(restaurant(1L, 2.0)));
+        when(delegate.findCurrentById(1L)).thenReturn(Optional.of(restaurant(1L, 2.0)));
+        repository.findById(1L);
+
+        assertThat(repository.findCurrentById(1L).orElseThrow().getRating()).isEqualTo(2.0);
+        assertThat(repository.findById(1L).orElseThrow().getRating()).isEqualTo(2.0);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldServeReadOnlyUnitsOfWorkFromTheCache() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)));
+        repository.findById(1L);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            repository.findById(1L);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldRevalidateAgainstTheDelegateEvenWhenCached() {
+        LocalDateTime updatedElsewhere = LocalDateTime.of(2030, 1, 1, 12, 0);
+        when(delegate.findById(1L)).thenReturn(Optional.of(restaurant(1L, 4.5)));
+        when(delegate.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedElsewhere));
+        when(delegate.existsById(1L)).thenReturn(false);
+        repository.findById(1L);
+
+        assertThat(repository.findUpdatedAtById(1L)).contains(updatedElsewhere);
+        assertThat(repository.existsById(1L)).isFalse();
+    }
+
+    private static Restaurant restaurant(Long id, double rating) {
+        return Restaurant.reconstruct(id, 10L, "Restaurant " + id, "Italian",
+                new Address("Main Street 1", "Springfield", "SP", "12345"), "09:00-22:00", null,
+                rating, true, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
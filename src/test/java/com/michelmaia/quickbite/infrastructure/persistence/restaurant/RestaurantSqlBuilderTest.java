@@ -0,0 +1,93 @@
+package com.michelmaia.quickbite.infrastructure.persistence.restaurant;
+
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantCriteria;
+import com.michelmaia.quickbite.domain.restaurant.repository.RestaurantSortOrder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSqlBuilderTest {
+
+    private final RestaurantSqlBuilder builder = new RestaurantSqlBuilder();
+
+    @Test
+    void shouldReuseOneStatementPerShapeWhateverTheValues() {
+        String italian = builder.page(criteria("Italian", 4.0, true, "Springfield"));
+        String japanese = builder.page(criteria("Japanese", 3.5, false, "Shelbyville"));
+
+        assertThat(japanese).isSameAs(italian);
+        assertThat(builder.cachedShapes()).isEqualTo(1);
+        assertThat(italian)
+                .doesNotContain("Italian", "Springfield")
+                .contains("LOWER(r.cuisine) = LOWER(:cuisine)",
+                        "r.rating >= CAST(:minRating AS NUMERIC)",
+                        "r.is_open = :isOpen",
+                        "LOWER(a.city) = LOWER(:city)",
+                        "LIMIT :limit OFFSET :offset");
+    }
+
+    @Test
+    void shouldRenderDistinctShapesForFiltersSortAndMode() {
+        RestaurantCriteria cuisine = criteria("Italian", null, null, null);
+
+        String page = builder.page(cuisine);
+        String keyset = builder.keyset(cuisine, true);
+        String count = builder.count(cuisine);
+        String topRated = builder.page(new RestaurantCriteria("Italian", null, null, null, null, null,
+                RestaurantSortOrder.TOP_RATED));
+
+        assertThat(builder.cachedShapes()).isEqualTo(4);
+        assertThat(page).contains("ORDER BY r.created_at DESC, r.id DESC").doesNotContain("COUNT(*) OVER()");
+        assertThat(keyset).contains("(r.created_at, r.id) < (:cursorKey, :cursorId)").endsWith("LIMIT :limit");
+        assertThat(count).startsWith("SELECT COUNT(*)").doesNotContain("addresses", "ORDER BY");
+        assertThat(topRated).contains("ORDER BY r.rating DESC, r.id DESC");
+    }
+
+    @Test
+    void shouldOnlyJoinAddressesInCountsWhenFilteringOnThem() {
+        assertThat(builder.count(criteria(null, null, null, "Springfield")))
+                .contains("JOIN addresses a ON r.address_id = a.id");
+        assertThat(builder.count(RestaurantCriteria.any()))
+                .isEqualTo("SELECT COUNT(*)\nFROM restaurants r\n");
+    }
+
+    @Test
+    void shouldBindOnlyPresentFiltersAndEscapeNamePrefix() {
+        var criteria = new RestaurantCriteria(" ", 4.0, null, null, "SP", "50%_Off", null);
+
+        assertThat(builder.params(criteria))
+                .containsOnlyKeys("minRating", "state", "namePrefix")
+                .containsEntry("namePrefix", "50\\%\\_off%");
+        assertThat(builder.page(criteria)).contains("LOWER(r.name) LIKE :namePrefix");
+    }
+
+    @Test
+    void shouldRenderNearbyAsDistanceOrderedShapeIgnoringSort() {
+        String nearby = builder.nearby(criteria("Italian", null, true, null));
+        String sorted = builder.nearby(new RestaurantCriteria("Japanese", null, false, null, null, null,
+                RestaurantSortOrder.TOP_RATED));
+
+        assertThat(sorted).isSameAs(nearby);
+        assertThat(nearby)
+                .contains("earth_box(ll_to_earth(:latitude, :longitude), :radius) @> ll_to_earth(a.latitude, a.longitude)",
+                        "earth_distance(ll_to_earth(:latitude, :longitude), ll_to_earth(a.latitude, a.longitude)) <= :radius",
+                        "LOWER(r.cuisine) = LOWER(:cuisine)",
+                        "r.is_open = :isOpen",
+                        "AS distance_m")
+                .endsWith("ORDER BY distance_m, r.id\nLIMIT :limit");
+    }
+
+    @Test
+    void shouldMatchOpenNowThroughTheSlotsBoundByTheCaller() {
+        var openNow = new RestaurantCriteria(null, null, null, true, null, null, null, null);
+
+        assertThat(builder.page(openNow))
+                .contains("r.is_open AND r.open_slots @> ANY(CAST(:openNowSlots AS INT[]))");
+        assertThat(builder.params(openNow)).isEmpty();
+        assertThat(builder.page(criteria(null, null, null, null))).doesNotContain("open_slots");
+    }
+
+    private static RestaurantCriteria criteria(String cuisine, Double minRating, Boolean isOpen, String city) {
+        return new RestaurantCriteria(cuisine, minRating, isOpen, city, null, null, null);
+    }
+}
@@ -0,0 +1,113 @@
+package com.michelmaia.quickbite.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+    private final DataSource primary = new DriverManagerDataSource();
+    private final List<DataSource> replicas = List.of(new DriverManagerDataSource(), new DriverManagerDataSource());
+    private final Map<DataSource, Duration> lags = new HashMap<>();
+    private final AtomicReference<String> client = new AtomicReference<>("alice");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicas, MAX_LAG, replica -> {
+        Duration lag = lags.get(replica);
+        if (lag == null) {
+            throw new IllegalStateException("Connection refused");
+        }
+        return lag;
+    });
+
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, lagMonitor,
+            new ReadYourWrites(Duration.ofMinutes(1), 100), client::get, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicasInSync() {
+        replicasLag(Duration.ZERO, Duration.ofMillis(200));
+
+        inTransaction(true);
+
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey())).containsExactly(0, 1, 0);
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.METRIC_NAME).tag("reason", "replica").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepWritesAndUnclassifiedStatementsOnThePrimary() {
+        replicasLag(Duration.ZERO, Duration.ZERO);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+        inTransaction(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReadYourOwnWritesFromThePrimary() {
+        replicasLag(Duration.ZERO, Duration.ZERO);
+
+        inTransaction(false);
+        routing.determineCurrentLookupKey();
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+        client.set("bob");
+        assertThat(routing.determineCurrentLookupKey()).isIn(0, 1);
+    }
+
+    @Test
+    void shouldSkipLaggingOrUnreachableReplicasAndFallBackToThePrimary() {
+        replicasLag(Duration.ofSeconds(5), Duration.ZERO);
+        inTransaction(true);
+
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()))
+                .containsExactly(1, 1);
+
+        lags.clear();
+        lags.put(replicas.get(0), Duration.ofSeconds(5));
+        lagMonitor.check();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.METRIC_NAME).tag("reason", "lagging").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldStayOnThePrimaryUntilTheFirstLagCheck() {
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    private void replicasLag(Duration first, Duration second) {
+        lags.put(replicas.get(0), first);
+        lags.put(replicas.get(1), second);
+        lagMonitor.check();
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,161 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthRateLimitFilter filter = new AuthRateLimitFilter(
+            new TokenBucketRateLimiter(3, Duration.ofMinutes(1), 64),
+            new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 64),
+            meterRegistry);
+
+    private static MockHttpServletRequest login(String remoteAddr, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(("{\"username\":\"" + username + "\",\"password\":\"secret\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // Body sent with Transfer-Encoding: chunked, so no Content-Length
+    private static MockHttpServletRequest chunked(MockHttpServletRequest request) {
+        MockHttpServletRequest chunked = new MockHttpServletRequest(request.getMethod(), request.getRequestURI()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        chunked.setRemoteAddr(request.getRemoteAddr());
+        chunked.setContentType(request.getContentType());
+        chunked.setContent(request.getContentAsByteArray());
+        return chunked;
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void shouldPassTheBodyOnAfterReadingTheUsername() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = send(login("10.0.0.1", "alice"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        String body = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"username\":\"alice\"");
+    }
+
+    @Test
+    void shouldHandTheBufferedBodyToANonBlockingReader() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        send(login("10.0.0.1", "alice"), chain);
+
+        ServletInputStream input = chain.getRequest().getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[16];
+                while (input.isReady() && !input.isFinished()) {
+                    body.write(buffer, 0, input.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        assertThat(allRead).isTrue();
+        assertThat(body.toString(StandardCharsets.UTF_8)).contains("\"username\":\"alice\"");
+    }
+
+    @Test
+    void shouldRejectRepeatedUsernameFromAnyAddress() throws Exception {
+        send(login("10.0.0.1", "alice"), new MockFilterChain());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send(login("10.0.0.2", "ALICE"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("Too many requests");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("key", "username").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAnAddressCyclingThroughUsernames() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(login("10.0.0.1", "user" + i), new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse response = send(login("10.0.0.1", "user3"), new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("20");
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitUsernamesInBodiesWithoutADeclaredLength() throws Exception {
+        send(chunked(login("10.0.0.1", "alice")), new MockFilterChain());
+
+        MockHttpServletResponse response = send(chunked(login("10.0.0.2", "alice")), new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldRefuseBodiesTooLargeToLimitByUsername() throws Exception {
+        String padding = " ".repeat(AuthRateLimitFilter.MAX_BUFFERED_BODY);
+        MockHttpServletRequest declared = login("10.0.0.1", "alice");
+        declared.setContent(("{\"username\":\"alice\",\"password\":\"secret\"}" + padding).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest undeclared = chunked(login("10.0.0.1", "alice"));
+        undeclared.setContent(declared.getContentAsByteArray());
+
+        MockFilterChain chain = new MockFilterChain();
+        assertThat(send(declared, chain).getStatus()).isEqualTo(413);
+        assertThat(send(undeclared, chain).getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldLeaveOtherEndpointsAlone() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/restaurants");
+            request.setRemoteAddr("10.0.0.1");
+            assertThat(send(request, new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void shouldPickHighestCostWithinTarget() {
+        // 7 ms at cost 10: 14 ms at 11, ..., 56 ms at 13, 112 ms at 14
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(cost -> Duration.ofMillis(7));
+
+        assertThat(calibrator.calibrate(Duration.ofMillis(100), 10, 16)).isEqualTo(13);
+        assertThat(calibrator.calibrate(Duration.ofMillis(112), 10, 16)).isEqualTo(14);
+    }
+
+    @Test
+    void shouldStayWithinCostBounds() {
+        BCryptCostCalibrator fast = new BCryptCostCalibrator(cost -> Duration.ofNanos(1_000));
+        BCryptCostCalibrator slow = new BCryptCostCalibrator(cost -> Duration.ofMillis(500));
+
+        assertThat(fast.calibrate(Duration.ofMillis(100), 10, 16)).isEqualTo(16);
+        assertThat(slow.calibrate(Duration.ofMillis(100), 10, 16)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDiscardWarmUpAndUseFastestSample() {
+        List<Integer> measuredCosts = new ArrayList<>();
+        List<Duration> samples = List.of(Duration.ofMillis(400), Duration.ofMillis(30),
+                Duration.ofMillis(12), Duration.ofMillis(20));
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(cost -> {
+            measuredCosts.add(cost);
+            return samples.get(measuredCosts.size() - 1);
+        });
+
+        // Fastest sample 12 ms: 24, 48, 96 ms at costs 11, 12, 13
+        assertThat(calibrator.calibrate(Duration.ofMillis(100), 10, 16)).isEqualTo(13);
+        assertThat(measuredCosts).containsOnly(10).hasSize(4);
+    }
+
+    @Test
+    void shouldRejectInvalidBounds() {
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(cost -> Duration.ofMillis(1));
+
+        assertThatThrownBy(() -> calibrator.calibrate(Duration.ofMillis(100), 3, 16))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calibrator.calibrate(Duration.ofMillis(100), 12, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.michelmaia.quickbite.domain.auth.exception.AuthenticationOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldRunWorkOnThePoolAndRecordIt() {
+        String thread = executor.execute(() -> Thread.currentThread().getName());
+
+        assertThat(thread).startsWith("password-hashing-");
+        assertThat(meterRegistry.get("password.hashing.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectFastWhenQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+        while (meterRegistry.get("password.hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> executor.execute(() -> true))
+                .isInstanceOf(AuthenticationOverloadedException.class)
+                .extracting(e -> ((AuthenticationOverloadedException) e).getRetryAfterSeconds())
+                .isEqualTo(3L);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldGiveUpWaitingAfterTimeout() {
+        executor.close();
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(50), Duration.ofSeconds(1), new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> executor.execute(() -> await(release)))
+                .isInstanceOf(AuthenticationOverloadedException.class);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRunBackgroundWorkOnlyWhenNothingIsQueued() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch background = new CountDownLatch(2);
+        assertThat(executor.submitIfIdle(background::countDown)).isTrue();
+        assertThat(executor.submitIfIdle(background::countDown)).isFalse();
+
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+        while (meterRegistry.get("password.hashing.queue").gauge().value() > 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(executor.submitIfIdle(background::countDown)).isTrue();
+        assertThat(background.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldPropagateFailuresOfTheWork() {
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new IllegalArgumentException("bad hash");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad hash");
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private TokenBucketRateLimiter limiter(int capacity, Duration period) {
+        return new TokenBucketRateLimiter(capacity, period, 1024, 42L, now::get);
+    }
+
+    @Test
+    void shouldAllowABurstOfCapacityThenReportTheWait() {
+        TokenBucketRateLimiter limiter = limiter(5, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    void shouldRefillOneTokenPerEmissionInterval() {
+        TokenBucketRateLimiter limiter = limiter(5, Duration.ofSeconds(10));
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice");
+        }
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("alice")).isZero();
+        }
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+    }
+
+    @Test
+    void shouldKeepKeysInDifferentSlotsIndependent() {
+        TokenBucketRateLimiter limiter = limiter(1, Duration.ofMinutes(1));
+        String other = "bob";
+        for (int i = 0; limiter.slot(other) == limiter.slot("alice"); i++) {
+            other = "bob" + i;
+        }
+
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isPositive();
+        assertThat(limiter.tryAcquire(other)).isZero();
+    }
+
+    @Test
+    void shouldSpreadKeysDifferentlyUnderDifferentSeeds() {
+        TokenBucketRateLimiter first = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 1024, 1L, now::get);
+        TokenBucketRateLimiter second = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 1024, 2L, now::get);
+
+        long differing = 0;
+        for (int i = 0; i < 100; i++) {
+            if (first.slot("user" + i) != second.slot("user" + i)) {
+                differing++;
+            }
+        }
+
+        assertThat(differing).isGreaterThan(90);
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanCapacityUnderContention() throws Exception {
+        int capacity = 1000;
+        int threads = 16;
+        int attemptsPerThread = 2000;
+        TokenBucketRateLimiter limiter = limiter(capacity, Duration.ofHours(1));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> granted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                granted.add(pool.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("203.0.113.7") == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : granted) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(capacity);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBoundGrantsByRefillRateUnderContentionOverTime() throws Exception {
+        int capacity = 10;
+        int threads = 8;
+        TokenBucketRateLimiter limiter = limiter(capacity, Duration.ofMillis(100));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<Integer>> granted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                granted.add(pool.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < 5000; i++) {
+                        if (limiter.tryAcquire("carol") == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            // The clock moves forward 1 s in 1 ms steps while the threads compete
+            Future<?> ticker = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+                    Thread.yield();
+                }
+                return null;
+            });
+            start.countDown();
+            ticker.get(30, TimeUnit.SECONDS);
+
+            int total = 0;
+            for (Future<Integer> future : granted) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            // Full bucket plus one token per 10 ms over one second
+            assertThat(total).isLessThanOrEqualTo(capacity + 100);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
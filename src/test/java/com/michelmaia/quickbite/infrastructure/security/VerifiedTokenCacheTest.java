@@ -0,0 +1,98 @@
+package com.michelmaia.quickbite.infrastructure.security;
+
+import com.michelmaia.quickbite.domain.user.entity.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final String PREFIX = "Bearer";
+    private static final String KEY = "verified-token-cache-test-key-verified-token-cache-test-key";
+
+    private final JWTVerifier verifier = new JWTVerifier(PREFIX, KEY);
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(100, 600_000, meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce() {
+        String token = token(3_600_000, Role.USER, Role.OWNER);
+        AtomicInteger verifications = new AtomicInteger();
+
+        UsernamePasswordAuthenticationToken first = cache.get(token, header -> {
+            verifications.incrementAndGet();
+            return verifier.verify(header);
+        });
+        UsernamePasswordAuthenticationToken second = cache.get(token, header -> {
+            verifications.incrementAndGet();
+            return verifier.verify(header);
+        });
+
+        assertThat(verifications).hasValue(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo(first.getName());
+        assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+        assertThat(first.getName()).isEqualTo("cache-user");
+        assertThat(first.getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_USER", "ROLE_OWNER");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotShareChangesToAnAuthenticationBetweenRequests() {
+        String token = token(3_600_000, Role.USER);
+
+        UsernamePasswordAuthenticationToken first = cache.get(token, verifier::verify);
+        first.setDetails("request-1");
+        first.setAuthenticated(false);
+
+        UsernamePasswordAuthenticationToken second = cache.get(token, verifier::verify);
+        assertThat(second.getDetails()).isNull();
+        assertThat(second.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        String expired = token(-1_000, Role.USER);
+
+        assertThatThrownBy(() -> cache.get(expired, verifier::verify)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void shouldRejectTokensWithoutExpiration() {
+        String unbounded = PREFIX + " " + Jwts.builder()
+                .subject("cache-user")
+                .signWith(Keys.hmacShaKeyFor(KEY.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> cache.get(unbounded, verifier::verify)).isInstanceOf(MalformedJwtException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private static String token(long validForMillis, Role... roles) {
+        Date now = new Date();
+        return JWTCreator.create(PREFIX, KEY, new JWTObject(
+                "cache-user", now, new Date(now.getTime() + validForMillis), List.of(roles)));
+    }
+}
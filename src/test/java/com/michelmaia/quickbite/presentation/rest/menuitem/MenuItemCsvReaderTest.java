@@ -0,0 +1,50 @@
+package com.michelmaia.quickbite.presentation.rest.menuitem;
+
+import com.michelmaia.quickbite.presentation.rest.menuitem.dto.BulkMenuItemRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MenuItemCsvReaderTest {
+
+    @Test
+    void shouldReadQuotedFieldsAndOptionalColumns() throws IOException {
+        String csv = "\uFEFFname,price,description,is_available\r\n"
+                + "Margherita,12.5,\"Tomato, mozzarella\",true\r\n"
+                + "\"The \"\"Big\"\" One\",20,\"Two\nlines\",no\r\n"
+                + "\r\n"
+                + "Soda,3\r\n";
+
+        List<BulkMenuItemRequest> rows = MenuItemCsvReader.read(new StringReader(csv), 10);
+
+        assertThat(rows).containsExactly(
+                new BulkMenuItemRequest("Margherita", "Tomato, mozzarella", 12.5, null, true),
+                new BulkMenuItemRequest("The \"Big\" One", "Two\nlines", 20.0, null, false),
+                new BulkMenuItemRequest("Soda", null, 3.0, null, null)
+        );
+    }
+
+    @Test
+    void shouldReportTheLineOfAnInvalidPrice() {
+        String csv = "name,price\nPizza,10\nPasta,\"twelve\"\n";
+
+        assertThatThrownBy(() -> MenuItemCsvReader.read(new StringReader(csv), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Line 3: invalid price 'twelve'");
+    }
+
+    @Test
+    void shouldRejectUnknownColumnsAndTooManyRows() {
+        assertThatThrownBy(() -> MenuItemCsvReader.read(new StringReader("name,price,colour\n"), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown CSV column: colour");
+        assertThatThrownBy(() -> MenuItemCsvReader.read(new StringReader("name,price\na,1\nb,2\nc,3\n"), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At most 2 menu items can be imported at once");
+    }
+}
@@ -0,0 +1,101 @@
+package com.michelmaia.quickbite.presentation.rest.restaurant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.michelmaia.quickbite.domain.common.entity.Address;
+import com.michelmaia.quickbite.domain.menuitem.entity.MenuItem;
+import com.michelmaia.quickbite.domain.restaurant.entity.CatalogEntry;
+import com.michelmaia.quickbite.domain.restaurant.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogExportWriterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        String ndjson = export(CatalogExportFormat.NDJSON, true,
+                new CatalogEntry(restaurant(1L, "Luigi's"), List.of(menuItem(10L, 1L, "Pizza, large"))),
+                new CatalogEntry(restaurant(2L, "Empty"), List.of()));
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(ndjson).endsWith("\n");
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("name").asText()).isEqualTo("Luigi's");
+        assertThat(first.get("address").get("city").asText()).isEqualTo("Springfield");
+        assertThat(first.get("menu")).hasSize(1);
+        assertThat(first.get("menu").get(0).get("name").asText()).isEqualTo("Pizza, large");
+        assertThat(objectMapper.readTree(lines[1]).get("menu")).isEmpty();
+    }
+
+    @Test
+    void shouldOmitMenuWhenNotRequested() throws IOException {
+        String ndjson = export(CatalogExportFormat.NDJSON, false, new CatalogEntry(restaurant(1L, "Luigi's"), null));
+
+        assertThat(objectMapper.readTree(ndjson).has("menu")).isFalse();
+    }
+
+    @Test
+    void shouldWriteOneCsvRowPerMenuItemWithEscaping() throws IOException {
+        String csv = export(CatalogExportFormat.CSV, true,
+                new CatalogEntry(restaurant(1L, "Luigi's"), List.of(
+                        menuItem(10L, 1L, "Pizza, large"),
+                        menuItem(11L, 1L, "The \"Special\""))),
+                new CatalogEntry(restaurant(2L, "Empty"), List.of()));
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("id,owner_id,name,").endsWith(",menu_item_created_at,menu_item_updated_at");
+        assertThat(lines[1]).startsWith("1,7,Luigi's,Italian,1 Main St,Springfield,IL,62701,")
+                .contains(",10,\"Pizza, large\",");
+        assertThat(lines[2]).contains(",11,\"The \"\"Special\"\"\",");
+        assertThat(lines[3]).startsWith("2,7,Empty,").endsWith(",,,,,,,,");
+        assertThat(lines[3].split(",", -1)).hasSize(lines[0].split(",").length);
+    }
+
+    @Test
+    void shouldWriteOneCsvRowPerRestaurantWithoutMenus() throws IOException {
+        String csv = export(CatalogExportFormat.CSV, false, new CatalogEntry(restaurant(1L, "Luigi's"), null));
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).doesNotContain("menu_item");
+        assertThat(lines[1].split(",", -1)).hasSize(lines[0].split(",").length);
+    }
+
+    private String export(CatalogExportFormat format, boolean withMenus, CatalogEntry... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CatalogExportWriter writer = format.open(out, objectMapper, withMenus)) {
+            for (CatalogEntry entry : entries) {
+                writer.write(entry);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Restaurant restaurant(Long id, String name) {
+        return Restaurant.reconstruct(id, 7L, name, "Italian",
+                new Address("1 Main St", "Springfield", "IL", "62701"),
+                "11:00-22:00", null, 4.5, true, CREATED, CREATED);
+    }
+
+    private static MenuItem menuItem(Long id, Long restaurantId, String name) {
+        return MenuItem.reconstruct(id, restaurantId, name, "Tasty", 12.5, null, true, CREATED, CREATED);
+    }
+}
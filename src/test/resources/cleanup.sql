@@ -1,4 +1,6 @@
 -- Delete in correct order to respect foreign key constraints
+DELETE FROM restaurant_rating_stripes;
+DELETE FROM reviews;
 DELETE FROM menu_items;
 DELETE FROM restaurants;
 DELETE FROM user_roles;
@@ -9,4 +11,5 @@ DELETE FROM addresses;
 SELECT setval('addresses_id_seq', (SELECT COALESCE(MAX(id), 1) FROM addresses));
 SELECT setval('users_id_seq', (SELECT COALESCE(MAX(id), 1) FROM users));
 SELECT setval('restaurants_id_seq', (SELECT COALESCE(MAX(id), 1) FROM restaurants));
-SELECT setval('menu_items_id_seq', (SELECT COALESCE(MAX(id), 1) FROM menu_items));
\ No newline at end of file
+SELECT setval('menu_items_id_seq', (SELECT COALESCE(MAX(id), 1) FROM menu_items));
+SELECT setval('reviews_id_seq', (SELECT COALESCE(MAX(id), 1) FROM reviews));
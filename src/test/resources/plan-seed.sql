@@ -0,0 +1,56 @@
+-- Bulk rows on top of test-data.sql so the planner has a reason to prefer indexes over sequential scans
+-- Located on a 200 x 100 grid about 1 km apart
+INSERT INTO addresses (street, city, state, zip_code, latitude, longitude)
+SELECT 'Seed Street ' || g, 'Seed City', 'SC', '00000-000', -23.0 - (g % 200) * 0.01, -46.0 - (g / 200) * 0.01
+FROM generate_series(1, 20000) g;
+
+INSERT INTO users (name, username, email, password, enabled)
+SELECT 'seed user ' || g, 'seeduser' || g, 'seeduser' || g || '@seed.com', 'not-a-hash', true
+FROM generate_series(1, 10000) g;
+
+-- One seeded user in a hundred is an owner, the rest are plain users
+INSERT INTO user_roles (user_id, role_id)
+SELECT u.id, (SELECT id FROM roles WHERE name = CASE WHEN u.id % 100 = 0 THEN 'OWNER' ELSE 'USER' END)
+FROM users u
+WHERE u.username LIKE 'seeduser%';
+
+-- 20000 restaurants over 40 cuisines, ratings 0.0-5.0, one address each, owned by the seeded owners
+WITH seed_address AS (SELECT MIN(id) AS first_id FROM addresses WHERE street LIKE 'Seed Street %'),
+     seed_owner AS (
+         SELECT u.id, row_number() OVER (ORDER BY u.id) - 1 AS n, COUNT(*) OVER () AS total
+         FROM users u
+         JOIN user_roles ur ON ur.user_id = u.id
+         WHERE u.username LIKE 'seeduser%' AND ur.role_id = (SELECT id FROM roles WHERE name = 'OWNER')
+     )
+INSERT INTO restaurants (owner_id, address_id, name, cuisine, rating, opening_hours, is_open, created_at, updated_at)
+SELECT o.id, a.first_id + g - 1, 'Seed Restaurant ' || g, 'Seed Cuisine ' || (g % 40),
+       (g % 51) / 10.0, '10:00-22:00', g % 5 <> 0,
+       TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute'
+FROM generate_series(1, 20000) g
+CROSS JOIN seed_address a
+JOIN seed_owner o ON o.n = g % o.total;
+
+-- Each seeded restaurant opens for one hour of the week in Sao Paulo time, so "open now" stays selective
+INSERT INTO time_zones (name) VALUES ('America/Sao_Paulo') ON CONFLICT (name) DO NOTHING;
+
+UPDATE restaurants r
+SET time_zone = z.name,
+    weekly_hours = int4multirange(int4range(r.id % 168 * 60, r.id % 168 * 60 + 60)),
+    open_slots = int4multirange(int4range(z.id * 10080 + r.id % 168 * 60, z.id * 10080 + r.id % 168 * 60 + 60))
+FROM time_zones z
+WHERE z.name = 'America/Sao_Paulo'
+  AND r.name LIKE 'Seed Restaurant %';
+
+-- Ten dishes per seeded restaurant, one in ten hidden
+INSERT INTO menu_items (restaurant_id, name, description, price, is_available, created_at, updated_at)
+SELECT r.id, 'Seed Dish ' || r.id || '-' || d, 'Seeded dish', 10.00 + d, d % 10 <> 0,
+       r.created_at + d * INTERVAL '1 second', r.created_at + d * INTERVAL '1 second'
+FROM restaurants r
+CROSS JOIN generate_series(1, 10) d
+WHERE r.name LIKE 'Seed Restaurant %';
+
+ANALYZE addresses;
+ANALYZE users;
+ANALYZE user_roles;
+ANALYZE restaurants;
+ANALYZE menu_items;